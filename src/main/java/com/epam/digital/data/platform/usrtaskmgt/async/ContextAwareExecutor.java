@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.async;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.deadline.Deadline;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Bounded executor that runs tasks with the context of the submitting thread: trace context (with
+ * propagated baggage such as access token), security context, request attributes and request
+ * deadline.
+ */
+@Slf4j
+public class ContextAwareExecutor {
+
+  private final String name;
+  private final ExecutorService executorService;
+
+  public ContextAwareExecutor(String name, ExecutorService executorService,
+      CurrentTraceContext currentTraceContext) {
+    this.name = name;
+    this.executorService = currentTraceContext.executorService(executorService);
+  }
+
+  /**
+   * Running the supplier asynchronously with the context of the current thread
+   *
+   * @param supplier task to run
+   * @param <T>      type of the task result
+   * @return future of the task result
+   */
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    var securityContext = SecurityContextHolder.getContext();
+    var deadline = Deadline.current();
+    return CompletableFuture.supplyAsync(() -> {
+      var previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+      var previousSecurityContext = SecurityContextHolder.getContext();
+      var previousDeadline = Deadline.current();
+      RequestContextHolder.setRequestAttributes(requestAttributes);
+      SecurityContextHolder.setContext(securityContext);
+      Deadline.set(deadline);
+      try {
+        return supplier.get();
+      } finally {
+        RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+        SecurityContextHolder.setContext(previousSecurityContext);
+        Deadline.set(previousDeadline);
+      }
+    }, executorService);
+  }
+
+  /**
+   * Running the task asynchronously with the context of the current thread
+   *
+   * @param runnable task to run
+   * @return future of the task completion
+   */
+  public CompletableFuture<Void> runAsync(Runnable runnable) {
+    return supplyAsync(() -> {
+      runnable.run();
+      return null;
+    });
+  }
+
+  /**
+   * Applying the action to every item with bounded parallelism: at most {@code parallelism} items
+   * are processed at the same time (one of them by the current thread). The action is expected to
+   * handle its own errors, an unhandled exception stops the worker that got it and is rethrown
+   * once the other workers complete.
+   *
+   * @param items       items to process
+   * @param parallelism maximum number of items processed at the same time
+   * @param action      action to apply
+   * @param <T>         type of the items
+   * @param <R>         type of the action results
+   * @return action results in the order of the items
+   */
+  public <T, R> List<R> invokeAll(List<T> items, int parallelism, Function<T, R> action) {
+    var results = new AtomicReferenceArray<R>(items.size());
+    var nextItem = new AtomicInteger();
+    Runnable worker = () -> {
+      int index;
+      while ((index = nextItem.getAndIncrement()) < items.size()) {
+        results.set(index, action.apply(items.get(index)));
+      }
+    };
+
+    var workers = new ArrayList<CompletableFuture<Void>>();
+    for (var i = 1; i < Math.min(parallelism, items.size()); i++) {
+      workers.add(runAsync(worker));
+    }
+    try {
+      worker.run();
+    } finally {
+      awaitAll(workers.toArray(new CompletableFuture<?>[0]));
+    }
+    workers.forEach(ContextAwareExecutor::join);
+
+    var resultList = new ArrayList<R>(items.size());
+    for (var i = 0; i < items.size(); i++) {
+      resultList.add(results.get(i));
+    }
+    return resultList;
+  }
+
+  /**
+   * Waiting for the future result. The exception the task failed with is rethrown as is.
+   *
+   * @param future future of the task result
+   * @param <T>    type of the task result
+   * @return the task result
+   */
+  public static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      var cause = ex.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Waiting for all the futures to complete regardless of their outcome
+   *
+   * @param futures futures to wait for
+   */
+  public static void awaitAll(CompletableFuture<?>... futures) {
+    CompletableFuture.allOf(futures).handle((result, ex) -> null).join();
+  }
+
+  public void shutdown() throws InterruptedException {
+    log.info("Shutting down {} executor", name);
+    executorService.shutdown();
+    if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+      executorService.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.bulkhead;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.BulkheadProperties.Limit;
+import com.epam.digital.data.platform.usrtaskmgt.deadline.Deadline;
+import com.epam.digital.data.platform.usrtaskmgt.exception.BulkheadFullException;
+import com.epam.digital.data.platform.usrtaskmgt.limiter.DownstreamOverload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Semaphore based bulkhead that bounds the number of concurrent calls to a single downstream
+ * dependency. A call waits for a free slot not longer than the maximum wait time and only if the
+ * number of waiting calls is below the limit, otherwise {@link BulkheadFullException} is thrown.
+ * The wait is also bounded by the time remaining until the request {@link Deadline deadline}.
+ */
+public class Bulkhead {
+
+  public static final String CALLS_COUNTER_NAME = "usertask.bulkhead.calls";
+  public static final String ACTIVE_CALLS_GAUGE_NAME = "usertask.bulkhead.active.calls";
+  public static final String WAITING_CALLS_GAUGE_NAME = "usertask.bulkhead.waiting.calls";
+  public static final String MAX_CALLS_GAUGE_NAME = "usertask.bulkhead.max.calls";
+  public static final String WAIT_TIMER_NAME = "usertask.bulkhead.wait";
+
+  private final String name;
+  private final Limit limit;
+  private final Duration retryAfter;
+  private final Semaphore semaphore;
+  private final AtomicInteger waitingCalls = new AtomicInteger();
+  private final Counter permittedCounter;
+  private final Counter rejectedCounter;
+  private final Timer waitTimer;
+
+  public Bulkhead(String name, Limit limit, Duration retryAfter, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.limit = limit;
+    this.retryAfter = retryAfter;
+    this.semaphore = new Semaphore(limit.getMaxConcurrentCalls(), true);
+    this.permittedCounter = callsCounter(meterRegistry, "permitted");
+    this.rejectedCounter = callsCounter(meterRegistry, "rejected");
+    this.waitTimer = Timer.builder(WAIT_TIMER_NAME)
+        .description("Time spent waiting for a free bulkhead slot")
+        .tag("bulkhead", name)
+        .register(meterRegistry);
+    Gauge.builder(ACTIVE_CALLS_GAUGE_NAME, this,
+            bulkhead -> limit.getMaxConcurrentCalls() - bulkhead.semaphore.availablePermits())
+        .description("Number of calls that hold a bulkhead slot")
+        .tag("bulkhead", name)
+        .register(meterRegistry);
+    Gauge.builder(WAITING_CALLS_GAUGE_NAME, waitingCalls, AtomicInteger::get)
+        .description("Number of calls waiting for a free bulkhead slot")
+        .tag("bulkhead", name)
+        .register(meterRegistry);
+    Gauge.builder(MAX_CALLS_GAUGE_NAME, limit, Limit::getMaxConcurrentCalls)
+        .description("Maximum number of concurrent calls allowed by the bulkhead")
+        .tag("bulkhead", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Executing the call in a bulkhead slot
+   *
+   * @param call downstream call
+   * @param <T>  type of the call result
+   * @return the call result
+   * @throws BulkheadFullException if there was no free slot
+   */
+  public <T> T execute(Supplier<T> call) {
+    acquire();
+    try {
+      return call.get();
+    } finally {
+      semaphore.release();
+    }
+  }
+
+  private void acquire() {
+    if (semaphore.tryAcquire()) {
+      waitTimer.record(0, TimeUnit.NANOSECONDS);
+      permittedCounter.increment();
+      return;
+    }
+    if (waitingCalls.incrementAndGet() > limit.getMaxWaitingCalls()) {
+      waitingCalls.decrementAndGet();
+      DownstreamOverload.signal();
+      reject();
+    }
+    var startNanos = System.nanoTime();
+    var acquired = false;
+    var maxWait = Deadline.boundCurrent(limit.getMaxWait());
+    try {
+      acquired = semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      waitingCalls.decrementAndGet();
+      waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    if (!acquired) {
+      // a wait cut short by the client time budget doesn't prove overload
+      if (maxWait.compareTo(limit.getMaxWait()) >= 0) {
+        DownstreamOverload.signal();
+      }
+      reject();
+    }
+    permittedCounter.increment();
+  }
+
+  private void reject() {
+    rejectedCounter.increment();
+    throw new BulkheadFullException(name, retryAfter);
+  }
+
+  private Counter callsCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(CALLS_COUNTER_NAME)
+        .description("Number of calls to the downstream dependency by bulkhead decision")
+        .tag("bulkhead", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.bulkhead;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.BulkheadProperties;
+import com.epam.digital.data.platform.usrtaskmgt.config.BulkheadProperties.Limit;
+import com.epam.digital.data.platform.usrtaskmgt.exception.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds a {@link Bulkhead bulkhead} per {@link Dependency downstream dependency}, so a slow
+ * dependency can block only a bounded number of request threads and the requests that don't call
+ * it keep being served.
+ * <p>
+ * Every bulkhead exports {@value Bulkhead#CALLS_COUNTER_NAME} counter tagged by {@code result}
+ * ({@code permitted} or {@code rejected}), {@value Bulkhead#WAIT_TIMER_NAME} timer and
+ * {@value Bulkhead#ACTIVE_CALLS_GAUGE_NAME}, {@value Bulkhead#WAITING_CALLS_GAUGE_NAME},
+ * {@value Bulkhead#MAX_CALLS_GAUGE_NAME} gauges, all tagged by {@code bulkhead}.
+ */
+@Component
+public class BulkheadRegistry {
+
+  private final boolean enabled;
+  private final Map<Dependency, Bulkhead> bulkheads = new EnumMap<>(Dependency.class);
+
+  public BulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = properties.isEnabled();
+    if (enabled) {
+      for (var dependency : Dependency.values()) {
+        bulkheads.put(dependency, new Bulkhead(dependency.getTagValue(),
+            dependency.getLimit().apply(properties), properties.getRetryAfter(), meterRegistry));
+      }
+    }
+  }
+
+  /**
+   * Executing the call to the dependency in its bulkhead
+   *
+   * @param dependency downstream dependency
+   * @param call       downstream call
+   * @param <T>        type of the call result
+   * @return the call result
+   * @throws BulkheadFullException if the dependency bulkhead is full
+   */
+  public <T> T execute(Dependency dependency, Supplier<T> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    return bulkheads.get(dependency).execute(call);
+  }
+
+  /**
+   * Executing the call that has no result to the dependency in its bulkhead
+   *
+   * @param dependency downstream dependency
+   * @param call       downstream call
+   * @throws BulkheadFullException if the dependency bulkhead is full
+   */
+  public void execute(Dependency dependency, Runnable call) {
+    execute(dependency, () -> {
+      call.run();
+      return null;
+    });
+  }
+
+  /**
+   * Downstream dependencies isolated by bulkheads
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public enum Dependency {
+    BPMS_READ("bpms-read", BulkheadProperties::getBpmsRead),
+    BPMS_WRITE("bpms-write", BulkheadProperties::getBpmsWrite),
+    DSO("dso", BulkheadProperties::getDso),
+    FORM_VALIDATION("form-validation", BulkheadProperties::getFormValidation),
+    FORM_DATA_STORAGE("form-data-storage", BulkheadProperties::getFormDataStorage);
+
+    private final String tagValue;
+    private final Function<BulkheadProperties, Limit> limit;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Calculates SHA-256 content digests of form data that are used as keys of the form data related
+ * caches.
+ */
+public final class FormDataDigester {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final byte PART_SEPARATOR = 0;
+
+  private FormDataDigester() {
+  }
+
+  /**
+   * Calculating the digest of the sequence of string parts. Parts are separated, so different
+   * sequences with the same concatenation have different digests.
+   *
+   * @param parts parts to digest (nullable elements allowed)
+   * @return base64url encoded SHA-256 digest
+   */
+  public static String digestParts(List<String> parts) {
+    var messageDigest = messageDigest();
+    for (var part : parts) {
+      if (Objects.nonNull(part)) {
+        messageDigest.update(part.getBytes(StandardCharsets.UTF_8));
+      }
+      messageDigest.update(PART_SEPARATOR);
+    }
+    return encode(messageDigest.digest());
+  }
+
+  /**
+   * Calculating the digest of bytes
+   *
+   * @param bytes bytes to digest
+   * @return base64url encoded SHA-256 digest
+   */
+  public static String digest(byte[] bytes) {
+    return encode(messageDigest().digest(bytes));
+  }
+
+  private static MessageDigest messageDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(DIGEST_ALGORITHM + " algorithm isn't supported", e);
+    }
+  }
+
+  private static String encode(byte[] digest) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.cache;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.FormValidationCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded time-limited cache of successful form data validation results. The result is keyed by
+ * form key, process instance id and content digest of the form data, so only identical data of the
+ * same process is considered valid. Failed validation results are never cached.
+ * <p>
+ * Exports Caffeine cache metrics with {@code cache=form-validation} tag.
+ */
+@Component
+public class FormValidationResultCache {
+
+  public static final String CACHE_NAME = "form-validation";
+
+  private final Cache<String, Boolean> cache;
+  private final FormValidationCacheProperties properties;
+
+  public FormValidationResultCache(FormValidationCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.cache = Caffeine.newBuilder()
+        .expireAfterWrite(properties.getTtl())
+        .maximumSize(properties.getMaximumSize())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Checking if the form data has already passed the validation
+   *
+   * @param formKey           form key
+   * @param processInstanceId process instance identifier
+   * @param dataDigest        content digest of the form data
+   * @return true if there is a cached successful validation result
+   */
+  public boolean isValid(String formKey, String processInstanceId, String dataDigest) {
+    return properties.isEnabled()
+        && cache.getIfPresent(key(formKey, processInstanceId, dataDigest)) != null;
+  }
+
+  /**
+   * Caching the successful validation result
+   *
+   * @param formKey           form key
+   * @param processInstanceId process instance identifier
+   * @param dataDigest        content digest of the form data
+   */
+  public void putValid(String formKey, String processInstanceId, String dataDigest) {
+    if (properties.isEnabled()) {
+      cache.put(key(formKey, processInstanceId, dataDigest), Boolean.TRUE);
+    }
+  }
+
+  private static String key(String formKey, String processInstanceId, String dataDigest) {
+    return formKey + '|' + processInstanceId + '|' + dataDigest;
+  }
+}
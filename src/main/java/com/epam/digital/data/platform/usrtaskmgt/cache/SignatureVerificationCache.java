@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.cache;
+
+import com.epam.digital.data.platform.dso.api.dto.Subject;
+import com.epam.digital.data.platform.usrtaskmgt.config.SignatureVerificationCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded time-limited cache of positive digital signature verification results. The result is
+ * keyed by a digest of the verification kind, the user that requested the verification, the
+ * allowed subjects, the signature and the serialized form data digest, so only an identical
+ * verification request of the same user is answered from the cache (the verification result
+ * depends on the user since it's checked with the access token of the user).
+ * Negative results and failed verifications are never cached.
+ * <p>
+ * Exports Caffeine cache metrics with {@code cache=signature-verification} tag and
+ * {@value #TIME_SAVED_COUNTER_NAME} counter with the sum of verification durations that were
+ * avoided.
+ */
+@Slf4j
+@Component
+public class SignatureVerificationCache {
+
+  public static final String CACHE_NAME = "signature-verification";
+  public static final String TIME_SAVED_COUNTER_NAME =
+      "usertask.signature.verification.cache.time.saved";
+
+  private final Cache<String, Long> cache;
+  private final SignatureVerificationCacheProperties properties;
+  private final Counter timeSavedCounter;
+
+  public SignatureVerificationCache(SignatureVerificationCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.cache = Caffeine.newBuilder()
+        .expireAfterWrite(properties.getTtl())
+        .maximumSize(properties.getMaximumSize())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    this.timeSavedCounter = Counter.builder(TIME_SAVED_COUNTER_NAME)
+        .description("Duration of signature verifications answered from the cache")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Running the verification unless the same verification has already passed. The verification
+   * must throw an exception if the signature isn't valid.
+   *
+   * @param kind            verification kind (e.g. officer or citizen)
+   * @param userName        name of the user the verification is requested by
+   * @param allowedSubjects subjects that are allowed to sign the data
+   * @param signature       signature container
+   * @param dataDigest      digest of serialized form data
+   * @param verification    remote verification itself
+   */
+  public void verify(String kind, String userName, Collection<Subject> allowedSubjects,
+      String signature, String dataDigest, Runnable verification) {
+    if (!properties.isEnabled()) {
+      verification.run();
+      return;
+    }
+    var key = key(kind, userName, allowedSubjects, signature, dataDigest);
+    var verificationDurationNanos = cache.getIfPresent(key);
+    if (Objects.nonNull(verificationDurationNanos)) {
+      log.debug("Signature has already passed {} verification", kind);
+      timeSavedCounter.increment((double) verificationDurationNanos / TimeUnit.SECONDS.toNanos(1));
+      return;
+    }
+
+    var startNanos = System.nanoTime();
+    verification.run();
+    cache.put(key, System.nanoTime() - startNanos);
+  }
+
+  private static String key(String kind, String userName, Collection<Subject> allowedSubjects,
+      String signature, String dataDigest) {
+    var subjects = allowedSubjects.stream()
+        .map(Subject::name)
+        .sorted()
+        .collect(Collectors.joining(","));
+    var parts = new ArrayList<String>();
+    parts.add(kind);
+    parts.add(userName);
+    parts.add(subjects);
+    parts.add(signature);
+    parts.add(dataDigest);
+    return FormDataDigester.digestParts(parts);
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.cache;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskCountCacheProperties;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-TTL cache of the number of user tasks that are assigned to the user or unassigned.
+ * <p>
+ * The count is looked up in the node-local tier first, then in the Redis-shared tier that is
+ * filled by every replica, and only then it's requested from business process management service.
+ * So a cached count is never older than the sum of the local and the shared time to live.
+ * <p>
+ * Task completion on this replica decrements the local count of the completing user in place and
+ * drops the shared one. Task claim doesn't change the count of the claiming user since the count
+ * includes both assigned and unassigned tasks. Counts of other users and changes that are made
+ * outside this service are visible after the staleness bound at most.
+ * <p>
+ * Exports Caffeine cache metrics with {@code cache=task-count} tag and
+ * {@value #REQUESTS_COUNTER_NAME} counter tagged by the {@code result}.
+ */
+@Slf4j
+@Component
+public class TaskCountCache {
+
+  public static final String CACHE_NAME = "task-count";
+  public static final String REQUESTS_COUNTER_NAME = "usertask.task.count.cache.requests";
+
+  private final AtomicLong invalidationStamp = new AtomicLong();
+  private final Cache<String, AtomicLong> cache;
+  private final StringRedisTemplate redisTemplate;
+  private final TaskCountCacheProperties properties;
+  private final Counter localHits;
+  private final Counter sharedHits;
+  private final Counter misses;
+
+  public TaskCountCache(TaskCountCacheProperties properties, StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.redisTemplate = redisTemplate;
+    this.cache = Caffeine.newBuilder()
+        .expireAfterWrite(properties.getLocalTtl())
+        .maximumSize(properties.getMaximumSize())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    this.localHits = requestsCounter(meterRegistry, "local-hit");
+    this.sharedHits = requestsCounter(meterRegistry, "shared-hit");
+    this.misses = requestsCounter(meterRegistry, "miss");
+  }
+
+  /**
+   * Getting the task count of the user from the cache or loading it if it's absent in both tiers
+   *
+   * @param userName name of the user
+   * @param loader   action that requests the count from business process management service
+   * @return the task count
+   */
+  public CountResponse get(String userName, Supplier<CountResponse> loader) {
+    if (!properties.isEnabled()) {
+      return loader.get();
+    }
+    var local = cache.getIfPresent(userName);
+    if (local != null) {
+      localHits.increment();
+      return new CountResponse(local.get());
+    }
+
+    var stamp = invalidationStamp.get();
+    var shared = getShared(userName);
+    if (shared != null) {
+      sharedHits.increment();
+      putLocally(userName, shared, stamp);
+      return new CountResponse(shared);
+    }
+
+    misses.increment();
+    var result = loader.get();
+    if (putLocally(userName, result.getCount(), stamp)) {
+      putShared(userName, result.getCount());
+    }
+    return result;
+  }
+
+  /**
+   * Adjusting the count of the user that has completed a task on this replica. The local count is
+   * decremented in place and the shared one is dropped, so other replicas reload it.
+   *
+   * @param userName name of the user that has completed the task
+   */
+  public void onTaskCompleted(String userName) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    invalidationStamp.incrementAndGet();
+    var local = cache.getIfPresent(userName);
+    if (local != null) {
+      local.updateAndGet(count -> count > 0 ? count - 1 : 0);
+    }
+    try {
+      redisTemplate.delete(key(userName));
+    } catch (RuntimeException ex) {
+      log.warn("Couldn't drop shared task count of user {}", userName, ex);
+    }
+  }
+
+  private boolean putLocally(String userName, long count, long stamp) {
+    cache.put(userName, new AtomicLong(count));
+    if (invalidationStamp.get() != stamp) {
+      cache.invalidate(userName);
+      return false;
+    }
+    return true;
+  }
+
+  private Long getShared(String userName) {
+    try {
+      var value = redisTemplate.opsForValue().get(key(userName));
+      return value == null ? null : Long.valueOf(value);
+    } catch (RuntimeException ex) {
+      log.warn("Couldn't read shared task count of user {}", userName, ex);
+      return null;
+    }
+  }
+
+  private void putShared(String userName, long count) {
+    try {
+      redisTemplate.opsForValue()
+          .set(key(userName), String.valueOf(count), properties.getSharedTtl());
+    } catch (RuntimeException ex) {
+      log.warn("Couldn't share task count of user {}", userName, ex);
+    }
+  }
+
+  private String key(String userName) {
+    return properties.getKeyPrefix() + userName;
+  }
+
+  private static Counter requestsCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(REQUESTS_COUNTER_NAME)
+        .description("Number of task count requests by the cache tier that answered them")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
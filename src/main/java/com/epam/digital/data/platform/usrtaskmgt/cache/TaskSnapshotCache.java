@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.cache;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskSnapshotCacheProperties;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.SignableDataUserTaskResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node-local short-TTL cache of user task snapshots that are fetched from business process
+ * management service.
+ * <p>
+ * A snapshot is evicted whenever this service claims or completes the task. The eviction is
+ * broadcast over Redis pub/sub, so other replicas drop their copies too. Changes that are made
+ * outside this service are visible after the snapshot TTL at most.
+ * <p>
+ * A snapshot is served only to the assignee of the task, any other user (including candidate
+ * users and groups of an unassigned task) reads the task from business process management with
+ * their own access token, so its authorization check is never skipped. Snapshots of unassigned
+ * tasks aren't cached.
+ * <p>
+ * Exports Caffeine cache metrics with {@code cache=task-snapshot} tag and
+ * {@value #EVICTIONS_COUNTER_NAME} counter tagged by eviction {@code source}.
+ */
+@Slf4j
+@Component
+public class TaskSnapshotCache implements MessageListener {
+
+  public static final String CACHE_NAME = "task-snapshot";
+  public static final String EVICTIONS_COUNTER_NAME = "usertask.task.snapshot.evictions";
+
+  private static final String MESSAGE_SEPARATOR = ":";
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final AtomicLong evictionStamp = new AtomicLong();
+  private final Cache<String, SignableDataUserTaskResponse> cache;
+  private final StringRedisTemplate redisTemplate;
+  private final TaskSnapshotCacheProperties properties;
+  private final Counter localEvictions;
+  private final Counter remoteEvictions;
+
+  public TaskSnapshotCache(TaskSnapshotCacheProperties properties,
+      StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.redisTemplate = redisTemplate;
+    this.cache = Caffeine.newBuilder()
+        .expireAfterWrite(properties.getTtl())
+        .maximumSize(properties.getMaximumSize())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    this.localEvictions = evictionsCounter(meterRegistry, "local");
+    this.remoteEvictions = evictionsCounter(meterRegistry, "remote");
+  }
+
+  /**
+   * Getting the stamp that has to be passed to {@link #put(String, SignableDataUserTaskResponse,
+   * long)}. It must be taken before the task is fetched, so a snapshot that was fetched before a
+   * concurrent eviction is never cached.
+   *
+   * @return current eviction stamp
+   */
+  public long stamp() {
+    return evictionStamp.get();
+  }
+
+  /**
+   * Getting the task snapshot for the assignee of the task
+   *
+   * @param taskId   task identifier
+   * @param userName current user name
+   * @return the snapshot if it's present, not expired and the task is assigned to the user
+   */
+  public Optional<SignableDataUserTaskResponse> get(String taskId, String userName) {
+    if (!properties.isEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(cache.getIfPresent(taskId))
+        .filter(snapshot -> userName.equals(snapshot.getAssignee()));
+  }
+
+  /**
+   * Caching the snapshot of the assigned task if there were no evictions since the stamp was taken
+   *
+   * @param taskId   task identifier
+   * @param snapshot task snapshot that mustn't be modified after caching
+   * @param stamp    eviction stamp that was taken before the task was fetched
+   */
+  public void put(String taskId, SignableDataUserTaskResponse snapshot, long stamp) {
+    if (!properties.isEnabled() || Objects.isNull(snapshot.getAssignee())) {
+      return;
+    }
+    cache.put(taskId, snapshot);
+    if (evictionStamp.get() != stamp) {
+      cache.invalidate(taskId);
+    }
+  }
+
+  /**
+   * Evicting the task snapshot on this replica and broadcasting the eviction to other replicas
+   *
+   * @param taskId task identifier
+   */
+  public void evict(String taskId) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    evictLocally(taskId);
+    localEvictions.increment();
+    try {
+      redisTemplate.convertAndSend(properties.getInvalidationChannel(),
+          instanceId + MESSAGE_SEPARATOR + taskId);
+    } catch (RuntimeException ex) {
+      log.warn("Couldn't broadcast eviction of task {} snapshot", taskId, ex);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    var payload = new String(message.getBody(), StandardCharsets.UTF_8);
+    var separatorIndex = payload.indexOf(MESSAGE_SEPARATOR);
+    if (separatorIndex < 0) {
+      log.warn("Skipping malformed task snapshot eviction message {}", payload);
+      return;
+    }
+    if (payload.substring(0, separatorIndex).equals(instanceId)) {
+      return;
+    }
+    var taskId = payload.substring(separatorIndex + 1);
+    log.debug("Evicting task {} snapshot by other replica request", taskId);
+    evictLocally(taskId);
+    remoteEvictions.increment();
+  }
+
+  private void evictLocally(String taskId) {
+    evictionStamp.incrementAndGet();
+    cache.invalidate(taskId);
+  }
+
+  private static Counter evictionsCounter(MeterRegistry meterRegistry, String source) {
+    return Counter.builder(EVICTIONS_COUNTER_NAME)
+        .description("Number of task snapshot evictions caused by task claim or completion")
+        .tag("source", source)
+        .register(meterRegistry);
+  }
+}
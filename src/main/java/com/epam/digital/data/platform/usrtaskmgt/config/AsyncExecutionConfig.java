@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.config.AsyncExecutionProperties.Pool;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The configuration of the bounded executors that run downstream calls concurrently. Executors
+ * propagate trace context, so the access token baggage reaches the downstream services.
+ */
+@Configuration
+public class AsyncExecutionConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "user-task-management.async")
+  public AsyncExecutionProperties asyncExecutionProperties() {
+    return new AsyncExecutionProperties();
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public ContextAwareExecutor formProcessingExecutor(
+      AsyncExecutionProperties asyncExecutionProperties, CurrentTraceContext currentTraceContext) {
+    return contextAwareExecutor("form-processing", asyncExecutionProperties.getFormProcessing(),
+        currentTraceContext, new CallerRunsPolicy());
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public ContextAwareExecutor readHedgingExecutor(
+      AsyncExecutionProperties asyncExecutionProperties, CurrentTraceContext currentTraceContext) {
+    return contextAwareExecutor("read-hedging", asyncExecutionProperties.getReadHedging(),
+        currentTraceContext, new AbortPolicy());
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public ContextAwareExecutor batchProcessingExecutor(
+      AsyncExecutionProperties asyncExecutionProperties, CurrentTraceContext currentTraceContext) {
+    return contextAwareExecutor("batch-processing", asyncExecutionProperties.getBatchProcessing(),
+        currentTraceContext, new CallerRunsPolicy());
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public ContextAwareExecutor readFanOutExecutor(
+      AsyncExecutionProperties asyncExecutionProperties, CurrentTraceContext currentTraceContext) {
+    return contextAwareExecutor("read-fan-out", asyncExecutionProperties.getReadFanOut(),
+        currentTraceContext, new CallerRunsPolicy());
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public ContextAwareExecutor speculativeValidationExecutor(
+      AsyncExecutionProperties asyncExecutionProperties, CurrentTraceContext currentTraceContext) {
+    return contextAwareExecutor("speculative-validation",
+        asyncExecutionProperties.getSpeculativeValidation(), currentTraceContext,
+        new AbortPolicy());
+  }
+
+  private static ContextAwareExecutor contextAwareExecutor(String name, Pool pool,
+      CurrentTraceContext currentTraceContext, RejectedExecutionHandler rejectedExecutionHandler) {
+    var executor = new ThreadPoolExecutor(pool.getCorePoolSize(), pool.getMaxPoolSize(),
+        pool.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(pool.getQueueCapacity()),
+        new CustomizableThreadFactory(name + "-"), rejectedExecutionHandler);
+    return new ContextAwareExecutor(name, executor, currentTraceContext);
+  }
+}
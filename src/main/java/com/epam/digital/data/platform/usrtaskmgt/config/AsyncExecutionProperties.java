@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the bounded executors that are used for running downstream calls concurrently.
+ */
+@Data
+public class AsyncExecutionProperties {
+
+  /**
+   * Executor that runs form validation and signature verification of the same request
+   * concurrently. When the executor queue is full a task is run by the submitting thread.
+   */
+  private Pool formProcessing = new Pool();
+  /**
+   * Executor that runs hedged business process management reads. Hedges are not sent when the
+   * executor queue is full.
+   */
+  private Pool readHedging = new Pool();
+  /**
+   * Executor that processes items of batch requests (e.g. bulk task claim) concurrently. When the
+   * executor queue is full an item is processed by the submitting thread.
+   */
+  private Pool batchProcessing = new Pool();
+  /**
+   * Executor that runs independent business process management reads of the same request (e.g.
+   * inbox task page and task count) concurrently. When the executor queue is full a read is run
+   * by the submitting thread.
+   */
+  private Pool readFanOut = new Pool();
+  /**
+   * Executor that validates pre-populated form data of signable tasks in the background.
+   * Validations are skipped when the executor queue is full.
+   */
+  private Pool speculativeValidation = new Pool();
+
+  @Data
+  public static class Pool {
+
+    private int corePoolSize = 8;
+    private int maxPoolSize = 32;
+    /**
+     * Number of tasks waiting for a free thread. What happens to a task submitted to the full
+     * queue is defined per executor.
+     */
+    private int queueCapacity = 100;
+    private Duration keepAlive = Duration.ofSeconds(60);
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import lombok.Data;
+
+/**
+ * Properties of the batch requests that process several user tasks at once.
+ */
+@Data
+public class BatchProperties {
+
+  /**
+   * Maximum number of task ids in a batch request
+   */
+  private int maxSize = 50;
+  /**
+   * Maximum number of tasks of a batch request processed at the same time
+   */
+  private int parallelism = 8;
+}
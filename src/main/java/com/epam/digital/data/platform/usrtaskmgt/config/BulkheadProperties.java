@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Properties of the bulkheads that bound the number of request threads concurrently blocked on
+ * every downstream dependency.
+ */
+@Data
+public class BulkheadProperties {
+
+  private boolean enabled = true;
+  /**
+   * Value of Retry-After header of the response to the rejected request
+   */
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  private Limit bpmsRead = new Limit(64, 32, Duration.ofMillis(100));
+  private Limit bpmsWrite = new Limit(32, 32, Duration.ofMillis(500));
+  private Limit dso = new Limit(16, 16, Duration.ofMillis(500));
+  private Limit formValidation = new Limit(32, 32, Duration.ofMillis(500));
+  private Limit formDataStorage = new Limit(32, 32, Duration.ofMillis(500));
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limit {
+
+    /**
+     * Maximum number of concurrent calls to the dependency
+     */
+    private int maxConcurrentCalls;
+    /**
+     * Maximum number of calls waiting for a free slot, calls above it are rejected immediately
+     */
+    private int maxWaitingCalls;
+    /**
+     * Maximum time to wait for a free slot
+     */
+    private Duration maxWait;
+  }
+}
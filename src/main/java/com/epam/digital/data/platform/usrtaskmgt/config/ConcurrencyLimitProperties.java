@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Properties of the adaptive concurrency limits of the user task API endpoint groups.
+ */
+@Data
+public class ConcurrencyLimitProperties {
+
+  private boolean enabled = true;
+  /**
+   * Value of Retry-After header of the response to the rejected request
+   */
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  /**
+   * Task reading endpoints (GET)
+   */
+  private Group read = new Group(50, 10, 400);
+  /**
+   * Task claiming, saving and completion endpoints (POST)
+   */
+  private Group completion = new Group(20, 5, 100);
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Group {
+
+    private int initialLimit;
+    private int minLimit;
+    private int maxLimit;
+    /**
+     * How much the short-term latency may exceed the long-term one before the limit decreases
+     */
+    private double rttTolerance = 1.5;
+    /**
+     * Weight of a newly calculated limit
+     */
+    private double smoothing = 0.2;
+    /**
+     * Number of requests the short-term latency is averaged over
+     */
+    private int windowSize = 50;
+    /**
+     * Number of windows the long-term latency is averaged over
+     */
+    private int longWindowSize = 100;
+    /**
+     * Limit multiplier applied when a request is rejected by an overloaded downstream dependency
+     */
+    private double backoffRatio = 0.9;
+
+    public Group(int initialLimit, int minLimit, int maxLimit) {
+      this.initialLimit = initialLimit;
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the per-request deadline that bounds the time of all the downstream calls of the
+ * request.
+ */
+@Data
+public class DeadlineProperties {
+
+  private boolean enabled = true;
+  /**
+   * Request header with the time budget of the request (e.g. {@code 5000}, {@code 5000ms},
+   * {@code 5s})
+   */
+  private String header = "X-Request-Timeout";
+  /**
+   * Time budget of task reading requests (GET) without the header
+   */
+  private Duration readTimeout = Duration.ofSeconds(30);
+  /**
+   * Time budget of task claiming, saving and completion requests (POST) without the header
+   */
+  private Duration completionTimeout = Duration.ofSeconds(60);
+  /**
+   * Maximum time budget that can be requested by the header
+   */
+  private Duration maxTimeout = Duration.ofSeconds(120);
+}
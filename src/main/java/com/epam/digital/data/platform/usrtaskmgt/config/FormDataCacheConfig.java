@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The configuration of the caches that allow skipping repeated processing of unchanged form data.
+ */
+@Configuration
+public class FormDataCacheConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "user-task-management.form-validation-cache")
+  public FormValidationCacheProperties formValidationCacheProperties() {
+    return new FormValidationCacheProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties(prefix = "user-task-management.signature-verification-cache")
+  public SignatureVerificationCacheProperties signatureVerificationCacheProperties() {
+    return new SignatureVerificationCacheProperties();
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the cache of successful form data validation results.
+ */
+@Data
+public class FormValidationCacheProperties {
+
+  private boolean enabled = true;
+  private Duration ttl = Duration.ofMinutes(10);
+  private long maximumSize = 10_000;
+  /**
+   * Validate pre-populated form data of signable tasks in the background when the task is read,
+   * so signing unchanged data finds a warm validation result
+   */
+  private boolean speculativeValidationEnabled = false;
+}
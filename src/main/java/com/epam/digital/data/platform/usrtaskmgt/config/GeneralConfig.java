@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.usrtaskmgt.config;
 
 import com.epam.digital.data.platform.dso.client.DigitalSignatureRestClient;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
@@ -47,6 +48,7 @@ public class GeneralConfig {
         .serializers(new LocalDateSerializer(DateTimeFormatter.ofPattern(DATE_FORMAT)),
             new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)))
         .deserializers(new LocalDateDeserializer(DateTimeFormatter.ofPattern(DATE_FORMAT)),
-            new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)));
+            new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)))
+        .filters(new SimpleFilterProvider().setFailOnUnknownId(false));
   }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.HttpClientProperties.Downstream;
+import com.epam.digital.data.platform.usrtaskmgt.remote.support.DownstreamHttpClient;
+import com.epam.digital.data.platform.usrtaskmgt.remote.support.DownstreamRoutingClient;
+import com.epam.digital.data.platform.usrtaskmgt.remote.support.InstrumentedConnectionManager;
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The configuration of the pooled HTTP transport of the Feign clients (business process
+ * management, digital signature ops and form validation). Every downstream service has its own
+ * instrumented connection pool, so a slow service can't exhaust connections of the others.
+ */
+@Configuration
+public class HttpClientConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "user-task-management.http-client")
+  public HttpClientProperties httpClientProperties() {
+    return new HttpClientProperties();
+  }
+
+  @Bean
+  public Client feignClient(HttpClientProperties httpClientProperties,
+      MeterRegistry meterRegistry,
+      @Value("${bpms.url}") String bpmsUrl,
+      @Value("${dso.url}") String dsoUrl,
+      @Value("${form-submission-validation.url:}") String formValidationUrl) {
+    var downstreams = new ArrayList<DownstreamHttpClient>();
+    addDownstream(downstreams, "bpms", bpmsUrl, httpClientProperties.getBpms(), meterRegistry);
+    addDownstream(downstreams, "dso", dsoUrl, httpClientProperties.getDso(), meterRegistry);
+    addDownstream(downstreams, "form-validation", formValidationUrl,
+        httpClientProperties.getFormValidation(), meterRegistry);
+    var fallback = downstreamHttpClient("other", null, httpClientProperties.getOther(),
+        meterRegistry);
+    return new DownstreamRoutingClient(downstreams, fallback);
+  }
+
+  private static void addDownstream(ArrayList<DownstreamHttpClient> downstreams, String name,
+      String baseUrl, Downstream settings, MeterRegistry meterRegistry) {
+    if (StringUtils.isBlank(baseUrl)) {
+      return;
+    }
+    downstreams.add(downstreamHttpClient(name, StringUtils.removeEnd(baseUrl, "/"), settings,
+        meterRegistry));
+  }
+
+  private static DownstreamHttpClient downstreamHttpClient(String name, String baseUrl,
+      Downstream settings, MeterRegistry meterRegistry) {
+    var connectionManager = new InstrumentedConnectionManager(name, meterRegistry);
+    connectionManager.setMaxTotal(settings.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(settings.getMaxConnections());
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name)
+        .bindTo(meterRegistry);
+
+    var keepAliveMillis = settings.getKeepAlive().toMillis();
+    var httpClient = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout((int) settings.getConnectionRequestTimeout().toMillis())
+            .build())
+        .setKeepAliveStrategy((response, context) -> {
+          var serverKeepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE
+              .getKeepAliveDuration(response, context);
+          return serverKeepAliveMillis > 0 ? Math.min(serverKeepAliveMillis, keepAliveMillis)
+              : keepAliveMillis;
+        })
+        .evictExpiredConnections()
+        .evictIdleConnections(settings.getEvictIdleAfter().toMillis(), TimeUnit.MILLISECONDS)
+        .disableCookieManagement()
+        .build();
+    return new DownstreamHttpClient(name, baseUrl, settings, new ApacheHttpClient(httpClient),
+        httpClient);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the pooled HTTP transport of the downstream Feign clients. Every downstream
+ * service has its own connection pool.
+ */
+@Data
+public class HttpClientProperties {
+
+  /**
+   * Business process management service
+   */
+  private Downstream bpms = new Downstream();
+  /**
+   * Digital signature ops service
+   */
+  private Downstream dso = new Downstream();
+  /**
+   * Form submission validation service
+   */
+  private Downstream formValidation = new Downstream();
+  /**
+   * Any other service called by Feign clients
+   */
+  private Downstream other = new Downstream();
+
+  @Data
+  public static class Downstream {
+
+    /**
+     * Maximum number of pooled connections to the downstream service
+     */
+    private int maxConnections = 100;
+    /**
+     * Maximum time to wait for a free pooled connection
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    /**
+     * Maximum time an idle connection is kept alive (if the server asks for a shorter time, the
+     * shorter one is used)
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+    /**
+     * Connections that are idle longer than this time are closed by the background evictor
+     */
+    private Duration evictIdleAfter = Duration.ofSeconds(30);
+    /**
+     * Connect timeout. Feign client options are used if it isn't set
+     */
+    private Duration connectTimeout;
+    /**
+     * Read timeout. Feign client options are used if it isn't set
+     */
+    private Duration readTimeout;
+  }
+}
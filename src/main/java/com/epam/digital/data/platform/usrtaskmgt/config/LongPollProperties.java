@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the long polling of the lightweight user tasks.
+ */
+@Data
+public class LongPollProperties {
+
+  /**
+   * Maximum time the request waits for a task, longer requested timeouts are shrunk to it
+   */
+  private Duration maxTimeout = Duration.ofSeconds(30);
+  /**
+   * Delay of the second poll of business process management, every next delay is multiplied by
+   * the {@link #backoffMultiplier} up to the {@link #maxInterval}
+   */
+  private Duration initialInterval = Duration.ofMillis(250);
+  private Duration maxInterval = Duration.ofSeconds(2);
+  private double backoffMultiplier = 2.0;
+  /**
+   * Number of threads that poll business process management for all waiting requests
+   */
+  private int pollerThreads = 4;
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import lombok.Data;
+
+/**
+ * Properties of the cursor pagination of task lists.
+ */
+@Data
+public class PaginationProperties {
+
+  /**
+   * Number of tasks before and after the expected cursor position that are requested to find the
+   * last task of the previous page if the tasks were shifted by created or completed tasks
+   */
+  private int anchorWindow = 20;
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of hedging of the idempotent business process management reads.
+ */
+@Data
+public class RequestHedgingProperties {
+
+  private boolean enabled = true;
+  /**
+   * Latency percentile of the operation after which a hedge is sent
+   */
+  private double percentile = 0.95;
+  /**
+   * Minimum delay before a hedge is sent
+   */
+  private Duration minDelay = Duration.ofMillis(20);
+  /**
+   * Number of the latest operation latencies the percentile is calculated over
+   */
+  private int windowSize = 1000;
+  /**
+   * Minimum number of observed latencies before hedging of the operation starts
+   */
+  private int minSamples = 100;
+  /**
+   * Share of the calls that may be hedged (every call earns this part of a hedge token)
+   */
+  private double budgetRatio = 0.1;
+  /**
+   * Maximum number of hedge tokens, i.e. the burst of hedges
+   */
+  private int maxBudget = 10;
+  /**
+   * Maximum number of hedges in flight. Hedges don't take business process management read
+   * bulkhead permits, so this bounds the extra downstream calls and pool connections of hedges
+   * that can't be interrupted out of their socket reads.
+   */
+  private int maxHedgesInFlight = 10;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the two-tier (node-local and Redis-shared) user task count cache.
+ */
+@Data
+public class TaskCountCacheProperties {
+
+  private boolean enabled = true;
+  /**
+   * Time after which a count is dropped from the node-local tier
+   */
+  private Duration localTtl = Duration.ofSeconds(2);
+  /**
+   * Time after which a count is dropped from the Redis-shared tier. A count that is served from
+   * the cache is never older than the sum of the local and the shared time to live.
+   */
+  private Duration sharedTtl = Duration.ofSeconds(3);
+  private long maximumSize = 10_000;
+  /**
+   * Prefix of the Redis keys that hold shared counts
+   */
+  private String keyPrefix = "user-task-management:task-count:";
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.index.UserTaskIndex;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The configuration of the in-memory per-user user task index.
+ */
+@Configuration
+public class TaskIndexConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "user-task-management.task-index")
+  public TaskIndexProperties taskIndexProperties() {
+    return new TaskIndexProperties();
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public UserTaskIndex userTaskIndex(UserTaskRemoteService userTaskRemoteService,
+      TaskIndexProperties taskIndexProperties,
+      @Qualifier("batchProcessingExecutor") ContextAwareExecutor batchProcessingExecutor,
+      CurrentTraceContext currentTraceContext, MeterRegistry meterRegistry) {
+    return new UserTaskIndex(userTaskRemoteService, taskIndexProperties, batchProcessingExecutor,
+        currentTraceContext, meterRegistry);
+  }
+}
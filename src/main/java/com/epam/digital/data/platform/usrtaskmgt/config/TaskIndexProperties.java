@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the in-memory per-user user task index that is fed by business process management
+ * task lifecycle events.
+ */
+@Data
+public class TaskIndexProperties {
+
+  private boolean enabled = false;
+  /**
+   * Kafka topic of the user task lifecycle events
+   */
+  private String topic = "bpm-user-task-events";
+  /**
+   * Offset reset policy of the consumer, every replica has its own consumer group
+   */
+  private String autoOffsetReset = "latest";
+  /**
+   * Interval of the index reconciliation against business process management
+   */
+  private Duration reconciliationInterval = Duration.ofMinutes(1);
+  /**
+   * Time after which the index of the user that doesn't request tasks is dropped
+   */
+  private Duration idleTimeout = Duration.ofMinutes(10);
+  /**
+   * Maximum number of indexed tasks per user, users with more tasks are always served by
+   * business process management
+   */
+  private int maxTasksPerUser = 500;
+  /**
+   * Number of the latest events that are re-applied to the index after reconciliation
+   */
+  private int recentEventsCapacity = 10000;
+  /**
+   * Maximum number of users reconciled at the same time
+   */
+  private int reconciliationParallelism = 4;
+}
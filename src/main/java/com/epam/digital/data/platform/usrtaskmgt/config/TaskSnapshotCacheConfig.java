@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import com.epam.digital.data.platform.usrtaskmgt.cache.TaskSnapshotCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * The configuration of the user task snapshot cache and its cross-replica invalidation over Redis
+ * pub/sub.
+ */
+@Configuration
+public class TaskSnapshotCacheConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "user-task-management.task-cache")
+  public TaskSnapshotCacheProperties taskSnapshotCacheProperties() {
+    return new TaskSnapshotCacheProperties();
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "user-task-management.task-cache", name = "enabled",
+      havingValue = "true", matchIfMissing = true)
+  public RedisMessageListenerContainer taskSnapshotInvalidationListenerContainer(
+      RedisConnectionFactory redisConnectionFactory, TaskSnapshotCache taskSnapshotCache,
+      TaskSnapshotCacheProperties taskSnapshotCacheProperties) {
+    var container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(taskSnapshotCache,
+        new ChannelTopic(taskSnapshotCacheProperties.getInvalidationChannel()));
+    return container;
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the node-local user task snapshot cache.
+ */
+@Data
+public class TaskSnapshotCacheProperties {
+
+  private boolean enabled = true;
+  /**
+   * Time after which a snapshot is dropped. Bounds the staleness of the task assignee for the
+   * changes that weren't made through this service.
+   */
+  private Duration ttl = Duration.ofSeconds(5);
+  private long maximumSize = 10_000;
+  /**
+   * Redis pub/sub channel that is used for broadcasting snapshot evictions to other replicas
+   */
+  private String invalidationChannel = "user-task-management.task-snapshot.invalidation";
+}
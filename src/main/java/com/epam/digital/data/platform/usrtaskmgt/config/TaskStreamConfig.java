@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import com.epam.digital.data.platform.usrtaskmgt.stream.TaskStreamRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The configuration of the server-sent events stream of the user task changes.
+ */
+@Configuration
+public class TaskStreamConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "user-task-management.task-stream")
+  public TaskStreamProperties taskStreamProperties() {
+    return new TaskStreamProperties();
+  }
+
+  /**
+   * Executor that refreshes subscribed users. Refreshes are submitted only by the refresh
+   * scheduler thread of the stream, so a saturated executor delays the refresh and never a
+   * request or a heartbeat.
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ContextAwareExecutor taskStreamRefreshExecutor(TaskStreamProperties taskStreamProperties,
+      CurrentTraceContext currentTraceContext) {
+    var parallelism = taskStreamProperties.getRefreshParallelism();
+    var executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(parallelism),
+        new CustomizableThreadFactory("task-stream-refresh-"), new CallerRunsPolicy());
+    return new ContextAwareExecutor("task-stream-refresh", executor, currentTraceContext);
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public TaskStreamRegistry taskStreamRegistry(UserTaskRemoteService userTaskRemoteService,
+      TaskStreamProperties taskStreamProperties,
+      @Qualifier("taskStreamRefreshExecutor") ContextAwareExecutor taskStreamRefreshExecutor,
+      CurrentTraceContext currentTraceContext, MeterRegistry meterRegistry) {
+    return new TaskStreamRegistry(userTaskRemoteService, taskStreamProperties,
+        taskStreamRefreshExecutor, currentTraceContext, meterRegistry);
+  }
+}
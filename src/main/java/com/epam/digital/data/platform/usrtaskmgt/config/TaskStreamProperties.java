@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.config;
+
+import java.time.Duration;
+import lombok.Data;
+
+/**
+ * Properties of the server-sent events stream of the user task count and task list changes.
+ */
+@Data
+public class TaskStreamProperties {
+
+  /**
+   * Interval of the task count and task list refresh of every subscribed user
+   */
+  private Duration refreshInterval = Duration.ofSeconds(5);
+  /**
+   * Interval of the heartbeat comments that keep idle connections open
+   */
+  private Duration heartbeatInterval = Duration.ofSeconds(15);
+  /**
+   * Time after which the connection is closed and has to be reopened by the client
+   */
+  private Duration connectionTimeout = Duration.ofMinutes(30);
+  /**
+   * Maximum number of open connections per replica
+   */
+  private int maxConnections = 1000;
+  /**
+   * Value of Retry-After header of the connection that exceeds the maximum
+   */
+  private Duration retryAfter = Duration.ofSeconds(5);
+  /**
+   * Maximum number of lightweight tasks tracked per user
+   */
+  private int maxTasks = 100;
+  /**
+   * Maximum interval between task list refreshes of the user whose task count hasn't changed. The
+   * task list is refreshed right away once the count changes.
+   */
+  private Duration taskListRefreshInterval = Duration.ofMinutes(1);
+  /**
+   * Maximum number of users refreshed at the same time (threads of the refresh executor)
+   */
+  private int refreshParallelism = 4;
+  /**
+   * Number of failed refreshes in a row after which user connections are closed (e.g. because of
+   * the expired access token), so clients reconnect
+   */
+  private int maxRefreshFailures = 3;
+}
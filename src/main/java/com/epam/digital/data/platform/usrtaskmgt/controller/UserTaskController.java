@@ -22,26 +22,37 @@ import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeAn
 import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeCitizen;
 import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeOfficer;
 import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
+import com.epam.digital.data.platform.usrtaskmgt.controller.swagger.FieldsAsQueryParam;
 import com.epam.digital.data.platform.usrtaskmgt.controller.swagger.PageableAsQueryParam;
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
 import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.TaskIdsRequest;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.ClaimTaskResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.CompletedTaskResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CursorPage;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.InboxResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.SignableDataUserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.TaskBatchItemResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
 import com.epam.digital.data.platform.usrtaskmgt.service.UserTaskManagementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -51,6 +62,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -59,11 +72,15 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(description = "User task management Rest API", name = "user-task-management-api")
 public class UserTaskController {
 
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  private static final String NEXT_TASK_FIELD = "nextTask";
+
   private final UserTaskManagementService userTaskManagementService;
 
   @GetMapping("/task")
   @Operation(summary = "Retrieve all tasks",
-      description = "### Endpoint purpose:\n This endpoint allows users to retrieve a list of tasks associated with a specified process instance or user. Users can optionally filter tasks by providing a process instance ID. Pagination is supported via the pageable parameter. The endpoint returns a list of UserTaskResponse objects, each representing a retrieved task.",
+      description = "### Endpoint purpose:\n This endpoint allows users to retrieve a list of tasks associated with a specified process instance or user. Users can optionally filter tasks by providing a process instance ID. Pagination is supported via the pageable parameter, by offset or by the cursor returned in the X-Next-Cursor header of the previous page. The endpoint returns a list of UserTaskResponse objects, each representing a retrieved task.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -75,6 +92,8 @@ public class UserTaskController {
           @ApiResponse(
               description = "List of user tasks",
               responseCode = "200",
+              headers = @Header(name = NEXT_CURSOR_HEADER,
+                  description = "Cursor of the next page, absent if there are no more tasks"),
               content = @Content(schema = @Schema(implementation = UserTaskResponse.class),
                   examples = {
                       @ExampleObject(value = "[\n"
@@ -93,6 +112,10 @@ public class UserTaskController {
                           + "        \"businessKey\": null\n"
                           + "    }]")
                   })),
+          @ApiResponse(
+              description = "Pagination cursor can't be decoded",
+              responseCode = "400",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -106,14 +129,59 @@ public class UserTaskController {
       }
   )
   @PageableAsQueryParam
-  public List<UserTaskResponse> getTasks(@RequestParam(required = false) String processInstanceId,
+  @FieldsAsQueryParam
+  public ResponseEntity<List<UserTaskResponse>> getTasks(
+      @RequestParam(required = false) String processInstanceId,
       @Parameter(hidden = true) Pageable pageable, Authentication authentication) {
-    return userTaskManagementService.getTasks(processInstanceId, pageable, authentication);
+    return toResponse(
+        userTaskManagementService.getTaskPage(processInstanceId, pageable, authentication));
+  }
+
+  @GetMapping(value = "/task", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Stream all tasks",
+      description = "### Endpoint purpose:\n This endpoint allows supervisors and integration jobs to export a large list of tasks associated with a specified process instance or user. It's selected by the Accept: application/x-ndjson header. Tasks are requested page by page and every task is written as a separate line of JSON as soon as its page arrives, so all the tasks are returned if maxResults isn't specified.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Stream of user tasks, one task per line",
+              responseCode = "200",
+              content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                  schema = @Schema(implementation = UserTaskResponse.class))),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              responseCode = "500",
+              description = "Internal server error",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          )
+      }
+  )
+  @PageableAsQueryParam
+  @FieldsAsQueryParam
+  public ResponseEntity<StreamingResponseBody> exportTasks(
+      @RequestParam(required = false) String processInstanceId,
+      @Parameter(hidden = true) Pageable pageable,
+      @Parameter(hidden = true)
+      @RequestParam(name = FieldSelection.PARAMETER_NAME, required = false) String fields,
+      Authentication authentication) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(userTaskManagementService.exportTasks(processInstanceId, pageable,
+            FieldSelection.parse(fields), authentication));
   }
 
   @GetMapping("/task/lightweight")
   @Operation(summary = "Retrieve all tasks",
-      description = "### Endpoint purpose:\n This endpoint allows users to retrieve a lightweight list of tasks associated with a specified process instance or user. Users can optionally filter tasks by providing a root process instance ID. The endpoint returns a list of lightweight user tasks. This lightweight version of the task list provides essential task details for efficient display purposes.",
+      description = "### Endpoint purpose:\n This endpoint allows users to retrieve a lightweight list of tasks associated with a specified process instance or user. Users can optionally filter tasks by providing a root process instance ID. Pagination is supported by offset or by the cursor returned in the X-Next-Cursor header of the previous page. The endpoint returns a list of lightweight user tasks. This lightweight version of the task list provides essential task details for efficient display purposes.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -125,6 +193,8 @@ public class UserTaskController {
           @ApiResponse(
               description = "List of user lightweight tasks",
               responseCode = "200",
+              headers = @Header(name = NEXT_CURSOR_HEADER,
+                  description = "Cursor of the next page, absent if there are no more tasks"),
               content = @Content(schema = @Schema(implementation = UserTaskLightweightResponse.class),
                   examples = {
                       @ExampleObject(value = "[\n"
@@ -138,6 +208,10 @@ public class UserTaskController {
                           + "    }\n"
                           + "]")
                   })),
+          @ApiResponse(
+              description = "Pagination cursor can't be decoded",
+              responseCode = "400",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -150,11 +224,12 @@ public class UserTaskController {
           )
       })
   @PageableAsQueryParam
-  public List<UserTaskLightweightResponse> getLightweightTasks(
+  @FieldsAsQueryParam
+  public ResponseEntity<List<UserTaskLightweightResponse>> getLightweightTasks(
       @RequestParam(required = false) String rootProcessInstanceId,
       @Parameter(hidden = true) Pageable pageable, Authentication authentication) {
-    return userTaskManagementService.getLightweightTasks(rootProcessInstanceId, pageable,
-        authentication);
+    return toResponse(userTaskManagementService.getLightweightTaskPage(rootProcessInstanceId,
+        pageable, authentication));
   }
 
   @GetMapping("/task/{id}")
@@ -211,9 +286,208 @@ public class UserTaskController {
               content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
           )
       })
+  @FieldsAsQueryParam
   public SignableDataUserTaskResponse getTaskById(@PathVariable("id") String taskId,
+      @Parameter(hidden = true)
+      @RequestParam(name = FieldSelection.PARAMETER_NAME, required = false) String fields,
+      Authentication authentication) {
+    return userTaskManagementService.getTaskById(taskId, FieldSelection.parse(fields),
+        authentication);
+  }
+
+  @GetMapping(value = "/task/lightweight", params = "waitTimeout")
+  @Operation(summary = "Wait for tasks",
+      description = "### Endpoint purpose:\n This endpoint is the long polling variant of _GET /api/task/lightweight_. If there are no tasks yet, the request is held until a task associated with a specified root process instance appears or _waitTimeout_ (in milliseconds) passes, then an empty list is returned. The maximum wait time is limited by the service configuration.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      responses = {
+          @ApiResponse(
+              description = "List of user lightweight tasks, empty if no task appeared in time",
+              responseCode = "200",
+              content = @Content(schema = @Schema(implementation = UserTaskLightweightResponse.class),
+                  examples = {
+                      @ExampleObject(value = "[\n"
+                          + "    {\n"
+                          + "        \"id\": \"0b52527c-62ae-11ee-be57-0a580a810416\",\n"
+                          + "        \"assignee\": \"user\",\n"
+                          + "    }\n"
+                          + "]")
+                  })),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              responseCode = "500",
+              description = "Internal server error",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          )
+      })
+  @PageableAsQueryParam
+  @FieldsAsQueryParam
+  public CompletableFuture<List<UserTaskLightweightResponse>> waitForLightweightTasks(
+      @RequestParam(required = false) String rootProcessInstanceId,
+      @Parameter(description = "Maximum time to wait for a task in milliseconds")
+      @RequestParam long waitTimeout,
+      @Parameter(hidden = true) Pageable pageable, Authentication authentication) {
+    return userTaskManagementService.waitForLightweightTasks(rootProcessInstanceId, pageable,
+        Duration.ofMillis(Math.max(waitTimeout, 0)), authentication);
+  }
+
+  @GetMapping("/task/inbox")
+  @Operation(summary = "Retrieve tasks together with task count",
+      description = "### Endpoint purpose:\n This endpoint returns the same page of tasks as _GET /api/task_ together with the task count returned by _GET /api/task/count_, so the inbox is refreshed in one call. The task page and the count are requested concurrently.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Page of user tasks and the task count",
+              responseCode = "200",
+              content = @Content(schema = @Schema(implementation = InboxResponse.class),
+                  examples = {
+                      @ExampleObject(value = "{\n"
+                          + "    \"tasks\": [\n"
+                          + "        {\n"
+                          + "            \"id\": \"0b52527c-62ae-11ee-be57-0a580a810416\",\n"
+                          + "            \"name\": \"my task name\",\n"
+                          + "            \"assignee\": \"user\"\n"
+                          + "        }\n"
+                          + "    ],\n"
+                          + "    \"count\": 22\n"
+                          + "}")
+                  })),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              responseCode = "500",
+              description = "Internal server error",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          )
+      })
+  @PageableAsQueryParam
+  @FieldsAsQueryParam
+  public InboxResponse<UserTaskResponse> getInbox(
+      @RequestParam(required = false) String processInstanceId,
+      @Parameter(hidden = true) Pageable pageable, Authentication authentication) {
+    return userTaskManagementService.getInbox(processInstanceId, pageable, authentication);
+  }
+
+  @GetMapping("/task/lightweight/inbox")
+  @Operation(summary = "Retrieve lightweight tasks together with task count",
+      description = "### Endpoint purpose:\n This endpoint returns the same page of lightweight tasks as _GET /api/task/lightweight_ together with the task count returned by _GET /api/task/count_, so the inbox is refreshed in one call. The task page and the count are requested concurrently.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Page of user tasks and the task count",
+              responseCode = "200",
+              content = @Content(schema = @Schema(implementation = InboxResponse.class),
+                  examples = {
+                      @ExampleObject(value = "{\n"
+                          + "    \"tasks\": [\n"
+                          + "        {\n"
+                          + "            \"id\": \"0b52527c-62ae-11ee-be57-0a580a810416\",\n"
+                          + "            \"assignee\": \"user\"\n"
+                          + "        }\n"
+                          + "    ],\n"
+                          + "    \"count\": 22\n"
+                          + "}")
+                  })),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              responseCode = "500",
+              description = "Internal server error",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          )
+      })
+  @PageableAsQueryParam
+  @FieldsAsQueryParam
+  public InboxResponse<UserTaskLightweightResponse> getLightweightInbox(
+      @RequestParam(required = false) String rootProcessInstanceId,
+      @Parameter(hidden = true) Pageable pageable, Authentication authentication) {
+    return userTaskManagementService.getLightweightInbox(rootProcessInstanceId, pageable, authentication);
+  }
+
+  @PostMapping("/task/batch-get")
+  @Operation(summary = "Retrieve several tasks by ids",
+      description = "### Endpoint purpose:\n This endpoint allows users to retrieve several tasks at once, every task is retrieved the same way as by _GET /api/task/{id}_ (with pre-populated form data). Tasks are retrieved concurrently and a failure to retrieve one task doesn't fail the whole request, the status is returned for every task instead: _FOUND_ (with the task), _NOT_FOUND_, _FORBIDDEN_ (task isn't assigned to current user) or _FAILED_ (unexpected error, the request can be retried).",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Ids of the tasks to retrieve",
+          required = true,
+          content = @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = TaskIdsRequest.class),
+              examples = {
+                  @ExampleObject(value = "{\n"
+                      + "  \"taskIds\": [\"task1\", \"task2\"]\n"
+                      + "}"
+                  )
+              }
+          )
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Retrieval result of every task",
+              responseCode = "200",
+              content = @Content(schema = @Schema(implementation = TaskBatchItemResponse.class),
+                  examples = {
+                      @ExampleObject(value = "[\n"
+                          + "  {\"taskId\": \"task1\", \"status\": \"FOUND\", \"task\": {\"id\": \"task1\", \"name\": \"Task name\", \"data\": {}}},\n"
+                          + "  {\"taskId\": \"task2\", \"status\": \"FORBIDDEN\", \"message\": \"The user with username user does not have permission on resource Task with id task2\"}\n"
+                          + "]"
+                      )
+                  })),
+          @ApiResponse(
+              description = "Request contains no task ids or too many task ids",
+              responseCode = "400",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              description = "Internal server error",
+              responseCode = "500",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
+      })
+  @FieldsAsQueryParam
+  public List<TaskBatchItemResponse> getTasksByIds(@RequestBody TaskIdsRequest request,
+      @Parameter(hidden = true)
+      @RequestParam(name = FieldSelection.PARAMETER_NAME, required = false) String fields,
       Authentication authentication) {
-    return userTaskManagementService.getTaskById(taskId, authentication);
+    return userTaskManagementService.getTasksByIds(request.getTaskIds(),
+        FieldSelection.parse(fields), authentication);
   }
 
   @GetMapping("/task/count")
@@ -246,6 +520,42 @@ public class UserTaskController {
     return userTaskManagementService.countTasks(authentication);
   }
 
+  @GetMapping("/task/count/stream")
+  @Operation(summary = "Stream task count and task list changes",
+      description = "### Endpoint purpose:\n This endpoint opens the server-sent events stream that replaces polling of _GET /api/task/count_ and _GET /api/task/lightweight_. The current state is sent right after the connection is opened, then only the changes are pushed: _count_ event with the task count and _tasks_ event with added (or changed) lightweight tasks and ids of removed tasks. Idle connection is kept open by heartbeat comments and is closed after the configured timeout, so the client has to reconnect.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Stream of task changes",
+              responseCode = "200",
+              content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                  examples = {
+                      @ExampleObject(value = "event:count\n"
+                          + "data:{\"count\":2}\n"
+                          + "\n"
+                          + "event:tasks\n"
+                          + "data:{\"added\":[{\"id\":\"0b52527c-62ae-11ee-be57-0a580a810416\",\"assignee\":\"user\"}],\"removed\":[]}\n")
+                  })),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              description = "Maximum number of stream connections is reached",
+              responseCode = "503",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
+      })
+  public SseEmitter streamTaskChanges(Authentication authentication) {
+    return userTaskManagementService.subscribeToTaskChanges(authentication);
+  }
+
   @PostMapping("/task/{id}/complete")
   @ResponseStatus(HttpStatus.OK)
   @Operation(summary = "Complete task by id",
@@ -309,9 +619,19 @@ public class UserTaskController {
       }
   )
 
+  @FieldsAsQueryParam
   public CompletedTaskResponse completeTaskById(@PathVariable("id") String taskId,
-      @RequestBody FormDataDto formDataDto, Authentication authentication) {
-    return userTaskManagementService.completeTaskById(taskId, formDataDto, authentication);
+      @RequestBody FormDataDto formDataDto,
+      @Parameter(description = "Return the next task of the same root process instance that is "
+          + "assigned to current user or unassigned in nextTask field, only id of unassigned "
+          + "task is returned")
+      @RequestParam(defaultValue = "false") boolean withNextTask,
+      @Parameter(hidden = true)
+      @RequestParam(name = FieldSelection.PARAMETER_NAME, required = false) String fields,
+      Authentication authentication) {
+    var result = userTaskManagementService.completeTaskById(taskId, formDataDto, authentication);
+    return withNextTask && FieldSelection.parse(fields).includes(NEXT_TASK_FIELD)
+        ? userTaskManagementService.attachNextTask(result, authentication) : result;
   }
 
   @PreAuthorizeOfficer
@@ -379,9 +699,19 @@ public class UserTaskController {
               responseCode = "500",
               content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))})
 
+  @FieldsAsQueryParam
   public CompletedTaskResponse singOfficerForm(@PathVariable("id") String taskId,
-      @RequestBody FormDataDto formDataDto, Authentication authentication) {
-    return userTaskManagementService.signOfficerForm(taskId, formDataDto, authentication);
+      @RequestBody FormDataDto formDataDto,
+      @Parameter(description = "Return the next task of the same root process instance that is "
+          + "assigned to current user or unassigned in nextTask field, only id of unassigned "
+          + "task is returned")
+      @RequestParam(defaultValue = "false") boolean withNextTask,
+      @Parameter(hidden = true)
+      @RequestParam(name = FieldSelection.PARAMETER_NAME, required = false) String fields,
+      Authentication authentication) {
+    var result = userTaskManagementService.signOfficerForm(taskId, formDataDto, authentication);
+    return withNextTask && FieldSelection.parse(fields).includes(NEXT_TASK_FIELD)
+        ? userTaskManagementService.attachNextTask(result, authentication) : result;
   }
 
   @PreAuthorizeCitizen
@@ -449,10 +779,19 @@ public class UserTaskController {
               responseCode = "500",
               content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
       })
+  @FieldsAsQueryParam
   public CompletedTaskResponse signCitizenForm(
       @PathVariable("id") String taskId, @RequestBody FormDataDto formDataDto,
+      @Parameter(description = "Return the next task of the same root process instance that is "
+          + "assigned to current user or unassigned in nextTask field, only id of unassigned "
+          + "task is returned")
+      @RequestParam(defaultValue = "false") boolean withNextTask,
+      @Parameter(hidden = true)
+      @RequestParam(name = FieldSelection.PARAMETER_NAME, required = false) String fields,
       Authentication authentication) {
-    return userTaskManagementService.signCitizenForm(taskId, formDataDto, authentication);
+    var result = userTaskManagementService.signCitizenForm(taskId, formDataDto, authentication);
+    return withNextTask && FieldSelection.parse(fields).includes(NEXT_TASK_FIELD)
+        ? userTaskManagementService.attachNextTask(result, authentication) : result;
   }
 
   @Operation(summary = "Claim task by id",
@@ -488,6 +827,61 @@ public class UserTaskController {
     userTaskManagementService.claimTaskById(taskId, authentication);
   }
 
+  @Operation(summary = "Claim several tasks by ids",
+      description = "### Endpoint purpose:\n This endpoint allows users to claim several tasks at once. Tasks are claimed concurrently and a failure to claim one task doesn't fail the whole request, the claim status is returned for every task instead: _CLAIMED_, _ALREADY_ASSIGNED_ (task is assigned to another person), _NOT_FOUND_ (task hasn't found or already completed) or _FAILED_ (unexpected error, the claim can be retried).",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Ids of the tasks to claim",
+          required = true,
+          content = @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = TaskIdsRequest.class),
+              examples = {
+                  @ExampleObject(value = "{\n"
+                      + "  \"taskIds\": [\"task1\", \"task2\"]\n"
+                      + "}"
+                  )
+              }
+          )
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Claim result of every task",
+              responseCode = "200",
+              content = @Content(schema = @Schema(implementation = ClaimTaskResponse.class),
+                  examples = {
+                      @ExampleObject(value = "[\n"
+                          + "  {\"taskId\": \"task1\", \"status\": \"CLAIMED\"},\n"
+                          + "  {\"taskId\": \"task2\", \"status\": \"ALREADY_ASSIGNED\"}\n"
+                          + "]"
+                      )
+                  })),
+          @ApiResponse(
+              description = "Request contains no task ids or too many task ids",
+              responseCode = "400",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              description = "Internal server error",
+              responseCode = "500",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
+      })
+  @PostMapping("/task/claim")
+  public List<ClaimTaskResponse> claimTasks(@RequestBody TaskIdsRequest request,
+      Authentication authentication) {
+    return userTaskManagementService.claimTasks(request.getTaskIds(), authentication);
+  }
+
   @ResponseStatus(HttpStatus.OK)
   @Operation(summary = "Save form data",
       description = "### Endpoint purpose:\n This endpoint allows to save form data to temporary storage without task completion.\n"
@@ -544,4 +938,12 @@ public class UserTaskController {
       Authentication authentication) {
     userTaskManagementService.saveFormData(taskId, formDataDto, authentication);
   }
+
+  private static <T> ResponseEntity<List<T>> toResponse(CursorPage<T> page) {
+    var response = ResponseEntity.ok();
+    if (page.getNextCursor() != null) {
+      response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+    }
+    return response.body(page.getTasks());
+  }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.controller.swagger;
+
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation is used to generate Swagger documentation on field selection parameter
+ */
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Parameter(in = ParameterIn.QUERY
+    , description = "Comma separated top-level fields of every returned task, e.g. id,name,data."
+    + " All fields are returned if the parameter is absent. Sections that aren't requested aren't"
+    + " fetched where possible (e.g. form data isn't read from the storage without data field)."
+    , name = FieldSelection.PARAMETER_NAME
+    , schema = @Schema(type = "string"))
+public @interface FieldsAsQueryParam {
+
+}
@@ -50,6 +50,11 @@ import java.lang.annotation.Target;
     + " for descending order. Must be used in conjunction with the sortBy parameter."
     , name = "sortOrder"
     , schema = @Schema(type = "string"))
+@Parameter(in = ParameterIn.QUERY
+    , description = "Pagination of results. Specifies the cursor returned in the X-Next-Cursor header"
+    + " of the previous page. Sorting is taken from the cursor and firstResult is ignored."
+    , name = "cursor"
+    , schema = @Schema(type = "string"))
 public @interface PageableAsQueryParam {
 
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.deadline;
+
+import com.epam.digital.data.platform.usrtaskmgt.exception.DeadlineExceededException;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Point in time the request processing must be finished by. The deadline of the current request
+ * is held by the thread that processes it and it's propagated to the threads of
+ * {@link com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor}.
+ */
+public final class Deadline {
+
+  private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+  private final long deadlineNanos;
+
+  private Deadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * Creating the deadline that is after the time budget from now
+   *
+   * @param budget time budget
+   * @return the deadline
+   */
+  public static Deadline after(Duration budget) {
+    return new Deadline(System.nanoTime() + budget.toNanos());
+  }
+
+  /**
+   * @return the deadline of the current request or null if there is no deadline
+   */
+  public static Deadline current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Setting the deadline of the current thread
+   *
+   * @param deadline deadline to set (nullable, null removes the deadline)
+   */
+  public static void set(Deadline deadline) {
+    if (Objects.isNull(deadline)) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(deadline);
+    }
+  }
+
+  /**
+   * Failing fast if the deadline of the current request has already passed
+   *
+   * @param step request processing step that is going to be started
+   * @throws DeadlineExceededException if the deadline has passed
+   */
+  public static void checkCurrent(String step) {
+    var deadline = current();
+    if (Objects.nonNull(deadline) && deadline.isExpired()) {
+      throw new DeadlineExceededException(step);
+    }
+  }
+
+  /**
+   * Bounding the timeout by the time remaining until the deadline of the current request
+   *
+   * @param timeout timeout of the step
+   * @return the timeout or the remaining time if it's shorter
+   */
+  public static Duration boundCurrent(Duration timeout) {
+    var deadline = current();
+    if (Objects.isNull(deadline)) {
+      return timeout;
+    }
+    var remaining = deadline.remaining();
+    return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+  }
+
+  /**
+   * @return time remaining until the deadline (negative if it has passed)
+   */
+  public Duration remaining() {
+    return Duration.ofNanos(deadlineNanos - System.nanoTime());
+  }
+
+  public boolean isExpired() {
+    return deadlineNanos - System.nanoTime() <= 0;
+  }
+}
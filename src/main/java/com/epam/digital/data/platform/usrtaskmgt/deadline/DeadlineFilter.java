@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.deadline;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.DeadlineProperties;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Sets the {@link Deadline deadline} of the user task API request. The time budget is taken from
+ * the request header (bounded by the maximum timeout) or from the default of the endpoint group
+ * (reads or completions).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+  private static final String API_PATH_PREFIX = "/api/";
+
+  private final DeadlineProperties properties;
+  private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled()
+        || !urlPathHelper.getPathWithinApplication(request).startsWith(API_PATH_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    var previousDeadline = Deadline.current();
+    Deadline.set(Deadline.after(getBudget(request)));
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      Deadline.set(previousDeadline);
+    }
+  }
+
+  private Duration getBudget(HttpServletRequest request) {
+    var defaultBudget = HttpMethod.GET.matches(request.getMethod())
+        ? properties.getReadTimeout() : properties.getCompletionTimeout();
+    var requestedBudget = parseBudget(request.getHeader(properties.getHeader()));
+    if (Objects.isNull(requestedBudget)) {
+      return defaultBudget;
+    }
+    return requestedBudget.compareTo(properties.getMaxTimeout()) > 0
+        ? properties.getMaxTimeout() : requestedBudget;
+  }
+
+  private Duration parseBudget(String header) {
+    if (StringUtils.isBlank(header)) {
+      return null;
+    }
+    try {
+      var budget = DurationStyle.detectAndParse(header.trim());
+      return budget.isNegative() || budget.isZero() ? null : budget;
+    } catch (IllegalArgumentException ex) {
+      log.debug("Invalid request time budget {}, default one is used", header);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.etag;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.EtagProperties;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Adds strong ETag to the task list ({@code GET /api/task}), lightweight task list
+ * ({@code GET /api/task/lightweight}) and task ({@code GET /api/task/{id}}) responses and answers
+ * {@code If-None-Match} request that matches the ETag with {@code 304 Not Modified} without a
+ * body.
+ * <p>
+ * Streaming and long polling endpoints, including NDJSON export of the task list
+ * ({@code GET /api/task} with {@code Accept: application/x-ndjson}), are never filtered since their
+ * responses can't be buffered.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskEtagFilter extends ShallowEtagHeaderFilter {
+
+  private static final Pattern TASK_READ_PATH = Pattern.compile("^/api/task(?:/([^/]+))?$");
+  private static final String LIGHTWEIGHT_SEGMENT = "lightweight";
+  private static final Set<String> NON_TASK_SEGMENTS = Set.of("count", "inbox");
+  private static final String WAIT_TIMEOUT_PARAMETER = "waitTimeout";
+
+  private final EtagProperties properties;
+  private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled()
+        || !(HttpMethod.GET.matches(request.getMethod())
+        || HttpMethod.HEAD.matches(request.getMethod()))
+        || !isTaskRead(request)
+        || acceptsNdjson(request);
+  }
+
+  private boolean isTaskRead(HttpServletRequest request) {
+    var matcher = TASK_READ_PATH.matcher(urlPathHelper.getPathWithinApplication(request));
+    if (!matcher.matches()) {
+      return false;
+    }
+    var segment = matcher.group(1);
+    if (LIGHTWEIGHT_SEGMENT.equals(segment)) {
+      return request.getParameter(WAIT_TIMEOUT_PARAMETER) == null;
+    }
+    return segment == null || !NON_TASK_SEGMENTS.contains(segment);
+  }
+
+  private static boolean acceptsNdjson(HttpServletRequest request) {
+    var accept = request.getHeader(HttpHeaders.ACCEPT);
+    if (accept == null) {
+      return false;
+    }
+    try {
+      return MediaType.parseMediaTypes(accept).stream()
+          .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    } catch (InvalidMediaTypeException ex) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception that is thrown when a batch request contains no task ids or more task ids than
+ * allowed
+ */
+@Getter
+public class BatchSizeExceededException extends RuntimeException {
+
+  private final int maxSize;
+
+  public BatchSizeExceededException(int size, int maxSize) {
+    super(String.format("Batch must contain from 1 to %d task ids, but contains %d", maxSize,
+        size));
+    this.maxSize = maxSize;
+  }
+}
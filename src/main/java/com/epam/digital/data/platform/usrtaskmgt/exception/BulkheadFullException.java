@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Exception that is thrown when the bulkhead of the downstream dependency has no free slot during
+ * the maximum wait time
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+  private final String bulkhead;
+  private final Duration retryAfter;
+
+  public BulkheadFullException(String bulkhead, Duration retryAfter) {
+    super(String.format("Bulkhead %s is full", bulkhead));
+    this.bulkhead = bulkhead;
+    this.retryAfter = retryAfter;
+  }
+}
@@ -22,16 +22,22 @@ import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorsListDto;
 import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
 import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
 import com.epam.digital.data.platform.starter.localization.MessageResolver;
-import com.epam.digital.data.platform.usrtaskmgt.i18n.UserTaskManagementMessage;
+import com.epam.digital.data.platform.usrtaskmgt.exception.BatchSizeExceededException;
+import com.epam.digital.data.platform.usrtaskmgt.exception.BulkheadFullException;
+import com.epam.digital.data.platform.usrtaskmgt.exception.DeadlineExceededException;
+import com.epam.digital.data.platform.usrtaskmgt.exception.InvalidCursorException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.SignatureValidationException;
+import com.epam.digital.data.platform.usrtaskmgt.exception.TaskStreamLimitExceededException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskAlreadyAssignedException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskAuthorizationException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskNotExistsException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskNotExistsOrCompletedException;
+import com.epam.digital.data.platform.usrtaskmgt.i18n.UserTaskManagementMessage;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -157,4 +163,127 @@ public class RestExceptionHandler {
     log.error("User task already assigned", ex);
     return new ResponseEntity<>(systemErrorDto, HttpStatus.CONFLICT);
   }
+
+  /**
+   * Catching {@link BulkheadFullException} exception and return localized response about
+   * overloaded downstream dependency with Retry-After header
+   *
+   * @param ex caught exception
+   * @return response entity with localized response
+   */
+  @ExceptionHandler(BulkheadFullException.class)
+  public ResponseEntity<SystemErrorDto> handleBulkheadFullException(BulkheadFullException ex) {
+    var localizedMessage =
+        messageResolver.getMessage(UserTaskManagementMessage.DEPENDENCY_OVERLOADED);
+
+    var systemErrorDto =
+        SystemErrorDto.builder()
+            .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+            .message(ex.getMessage())
+            .code(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()))
+            .localizedMessage(localizedMessage)
+            .build();
+    var retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    log.warn("Downstream dependency bulkhead is full", ex);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        .body(systemErrorDto);
+  }
+
+  /**
+   * Catching {@link DeadlineExceededException} exception and return localized response about
+   * request that couldn't be processed in its time budget
+   *
+   * @param ex caught exception
+   * @return response entity with localized response
+   */
+  @ExceptionHandler(DeadlineExceededException.class)
+  public ResponseEntity<SystemErrorDto> handleDeadlineExceededException(
+      DeadlineExceededException ex) {
+    var localizedMessage =
+        messageResolver.getMessage(UserTaskManagementMessage.REQUEST_DEADLINE_EXCEEDED);
+
+    var systemErrorDto =
+        SystemErrorDto.builder()
+            .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+            .message(ex.getMessage())
+            .code(String.valueOf(HttpStatus.GATEWAY_TIMEOUT.value()))
+            .localizedMessage(localizedMessage)
+            .build();
+    log.warn("Request deadline exceeded", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.GATEWAY_TIMEOUT);
+  }
+
+  /**
+   * Catching {@link BatchSizeExceededException} exception and return localized response about
+   * batch request with wrong number of task ids
+   *
+   * @param ex caught exception
+   * @return response entity with localized response
+   */
+  @ExceptionHandler(BatchSizeExceededException.class)
+  public ResponseEntity<SystemErrorDto> handleBatchSizeExceededException(
+      BatchSizeExceededException ex) {
+    var localizedMessage = messageResolver.getMessage(
+        UserTaskManagementMessage.BATCH_SIZE_EXCEEDED, ex.getMaxSize());
+
+    var systemErrorDto =
+        SystemErrorDto.builder()
+            .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+            .message(ex.getMessage())
+            .code(String.valueOf(HttpStatus.BAD_REQUEST.value()))
+            .localizedMessage(localizedMessage)
+            .build();
+    log.warn("Batch request has wrong size", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Catching {@link TaskStreamLimitExceededException} exception and return localized response
+   * about exceeded number of task stream connections with Retry-After header
+   *
+   * @param ex caught exception
+   * @return response entity with localized response
+   */
+  @ExceptionHandler(TaskStreamLimitExceededException.class)
+  public ResponseEntity<SystemErrorDto> handleTaskStreamLimitExceededException(
+      TaskStreamLimitExceededException ex) {
+    var localizedMessage =
+        messageResolver.getMessage(UserTaskManagementMessage.TASK_STREAM_LIMIT_EXCEEDED);
+
+    var systemErrorDto =
+        SystemErrorDto.builder()
+            .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+            .message(ex.getMessage())
+            .code(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()))
+            .localizedMessage(localizedMessage)
+            .build();
+    var retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    log.warn("Task stream connection limit is reached", ex);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        .body(systemErrorDto);
+  }
+
+  /**
+   * Catching {@link InvalidCursorException} exception and return localized response about
+   * task list pagination cursor that can't be decoded
+   *
+   * @param ex caught exception
+   * @return response entity with localized response
+   */
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<SystemErrorDto> handleInvalidCursorException(InvalidCursorException ex) {
+    var localizedMessage = messageResolver.getMessage(UserTaskManagementMessage.INVALID_CURSOR);
+
+    var systemErrorDto =
+        SystemErrorDto.builder()
+            .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+            .message(ex.getMessage())
+            .code(String.valueOf(HttpStatus.BAD_REQUEST.value()))
+            .localizedMessage(localizedMessage)
+            .build();
+    log.warn("Invalid pagination cursor", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.BAD_REQUEST);
+  }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.export;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskExportProperties;
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.pagination.CursorPaginator;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams the user task list as newline delimited JSON. Tasks are requested from business process
+ * management page by page (with {@link CursorPaginator cursor pagination}, so the pages don't
+ * overlap if tasks change meanwhile) and every page is written and flushed to the response before
+ * the next one is requested. So an export holds one page of tasks in memory regardless of the
+ * number of exported tasks, and a client disconnect fails the write and stops the paging.
+ * <p>
+ * The export is run by the MVC async executor with the trace context (and so the access token)
+ * of the request. Exports {@value #EXPORTS_COUNTER_NAME} counter tagged by {@code result}
+ * ({@code completed}, {@code aborted} by the client, {@code failed}) and
+ * {@value #TASKS_COUNTER_NAME} counter.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NdjsonTaskExporter {
+
+  public static final String EXPORTS_COUNTER_NAME = "usertask.task.export.exports";
+  public static final String TASKS_COUNTER_NAME = "usertask.task.export.tasks";
+
+  private static final char LINE_SEPARATOR = '\n';
+
+  private final UserTaskRemoteService userTaskRemoteService;
+  private final CursorPaginator cursorPaginator;
+  private final TaskExportProperties properties;
+  private final ObjectMapper objectMapper;
+  private final CurrentTraceContext currentTraceContext;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Creating the export of the user tasks of particular process instance
+   *
+   * @param processInstanceId process instance identifier (nullable)
+   * @param assignee          current user name
+   * @param page              index of the first result, the maximum number of results (all the
+   *                          tasks if absent) and result sorting criteria and order
+   * @param fields            fields of the task that are requested by the client
+   * @return the response body that writes the tasks
+   */
+  public StreamingResponseBody export(String processInstanceId, String assignee, Pageable page,
+      FieldSelection fields) {
+    var traceContext = currentTraceContext.get();
+    var writer = objectMapper.writer(fields.toFilterProvider())
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    return outputStream -> {
+      try (var scope = currentTraceContext.maybeScope(traceContext)) {
+        var exported = write(processInstanceId, assignee, page, writer, outputStream);
+        exportsCounter("completed").increment();
+        log.info("{} user tasks were exported", exported);
+      } catch (IOException ex) {
+        exportsCounter("aborted").increment();
+        log.info("User task export was aborted by the client");
+        throw ex;
+      } catch (RuntimeException ex) {
+        exportsCounter("failed").increment();
+        log.error("User task export failed", ex);
+        throw ex;
+      }
+    };
+  }
+
+  private long write(String processInstanceId, String assignee, Pageable page,
+      ObjectWriter writer, OutputStream outputStream) throws IOException {
+    var remaining = Objects.isNull(page.getMaxResults()) ? Long.MAX_VALUE : page.getMaxResults();
+    var request = Pageable.builder()
+        .firstResult(page.getFirstResult())
+        .maxResults(pageSize(remaining))
+        .sortBy(page.getSortBy())
+        .sortOrder(page.getSortOrder())
+        .build();
+    var exported = 0L;
+    try (var generator = objectMapper.getFactory().createGenerator(outputStream)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .setRootValueSeparator(null)) {
+      while (remaining > 0) {
+        var result = cursorPaginator.getPage(request,
+            pageByOffset -> userTaskRemoteService.getUserTasks(processInstanceId, assignee,
+                pageByOffset),
+            UserTaskResponse::getId);
+        for (var task : result.getTasks()) {
+          writer.writeValue(generator, task);
+          generator.writeRaw(LINE_SEPARATOR);
+        }
+        generator.flush();
+        exported += result.getTasks().size();
+        remaining -= result.getTasks().size();
+        meterRegistry.counter(TASKS_COUNTER_NAME).increment(result.getTasks().size());
+        if (Objects.isNull(result.getNextCursor())) {
+          break;
+        }
+        request = Pageable.builder()
+            .cursor(result.getNextCursor())
+            .maxResults(pageSize(remaining))
+            .build();
+      }
+    }
+    return exported;
+  }
+
+  private int pageSize(long remaining) {
+    return (int) Math.min(properties.getPageSize(), remaining);
+  }
+
+  private Counter exportsCounter(String result) {
+    return Counter.builder(EXPORTS_COUNTER_NAME)
+        .description("Number of streaming user task exports")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.fields;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * Top-level fields of the task response that are requested by the client with the
+ * {@value #PARAMETER_NAME} query parameter (comma separated field names). All the fields are
+ * requested if the parameter is absent or blank.
+ */
+public final class FieldSelection {
+
+  public static final String PARAMETER_NAME = "fields";
+  /**
+   * Jackson filter of the task responses that serializes only selected fields
+   */
+  public static final String FILTER_ID = "taskFieldSelection";
+
+  private static final FieldSelection ALL = new FieldSelection(null);
+
+  private final Set<String> fields;
+
+  private FieldSelection(Set<String> fields) {
+    this.fields = fields;
+  }
+
+  /**
+   * Selection of all the fields
+   *
+   * @return the selection
+   */
+  public static FieldSelection all() {
+    return ALL;
+  }
+
+  /**
+   * Parsing the {@value #PARAMETER_NAME} query parameter
+   *
+   * @param value comma separated field names (nullable)
+   * @return the selection
+   */
+  public static FieldSelection parse(@Nullable String value) {
+    if (StringUtils.isBlank(value)) {
+      return ALL;
+    }
+    var fields = Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(StringUtils::isNotEmpty)
+        .collect(Collectors.toUnmodifiableSet());
+    return fields.isEmpty() ? ALL : new FieldSelection(fields);
+  }
+
+  public boolean isAll() {
+    return Objects.isNull(fields);
+  }
+
+  public boolean includes(String field) {
+    return isAll() || fields.contains(field);
+  }
+
+  /**
+   * @return selected field names, empty if all the fields are selected
+   */
+  public Set<String> getFields() {
+    return isAll() ? Collections.emptySet() : fields;
+  }
+
+  /**
+   * Jackson filters that serialize only selected fields of the top-level task objects (the
+   * serialized task itself, the tasks of the serialized list or of the serialized wrapper)
+   *
+   * @return the filters
+   */
+  public FilterProvider toFilterProvider() {
+    var filter = isAll() ? SimpleBeanPropertyFilter.serializeAll()
+        : new TopLevelFieldFilter(fields);
+    return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+  }
+}
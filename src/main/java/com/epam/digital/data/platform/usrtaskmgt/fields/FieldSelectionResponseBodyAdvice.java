@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.fields;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Serializes only the {@link FieldSelection selected fields} of the task responses (classes that
+ * are annotated with {@link FieldSelection#FILTER_ID} Jackson filter). The fields of the task
+ * response, of the tasks of the response list and of the tasks of the response wrapper (inbox,
+ * batch item) are filtered, tasks nested in a task are serialized as is. Omitted fields are never
+ * serialized.
+ */
+@RestControllerAdvice
+public class FieldSelectionResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+  @Override
+  protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer,
+      MediaType contentType, MethodParameter returnType, ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (!(request instanceof ServletServerHttpRequest)) {
+      return;
+    }
+    var fieldSelection = FieldSelection.parse(((ServletServerHttpRequest) request)
+        .getServletRequest().getParameter(FieldSelection.PARAMETER_NAME));
+    if (fieldSelection.isAll()) {
+      return;
+    }
+    bodyContainer.setFilters(fieldSelection.toFilterProvider());
+  }
+}
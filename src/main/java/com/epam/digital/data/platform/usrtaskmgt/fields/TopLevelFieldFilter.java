@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.fields;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.core.annotation.AnnotationUtils;
+
+/**
+ * Jackson filter that serializes only selected fields of the top-level task objects: the
+ * serialized task itself, the tasks of the serialized list or the tasks of a wrapper such as inbox
+ * or batch item. Tasks nested in another task are serialized as is.
+ */
+class TopLevelFieldFilter extends SimpleBeanPropertyFilter {
+
+  private final Set<String> fields;
+
+  TopLevelFieldFilter(Set<String> fields) {
+    this.fields = fields;
+  }
+
+  @Override
+  public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider,
+      PropertyWriter writer) throws Exception {
+    if (isNestedTask(generator) || fields.contains(writer.getName())) {
+      writer.serializeAsField(pojo, generator, provider);
+    } else if (!generator.canOmitFields()) {
+      writer.serializeAsOmittedField(pojo, generator, provider);
+    }
+  }
+
+  private static boolean isNestedTask(JsonGenerator generator) {
+    for (var context = generator.getOutputContext().getParent(); Objects.nonNull(context);
+        context = context.getParent()) {
+      var value = context.getCurrentValue();
+      if (Objects.nonNull(value) && isTask(value.getClass())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isTask(Class<?> type) {
+    var filter = AnnotationUtils.findAnnotation(type, JsonFilter.class);
+    return Objects.nonNull(filter) && FieldSelection.FILTER_ID.equals(filter.value());
+  }
+}
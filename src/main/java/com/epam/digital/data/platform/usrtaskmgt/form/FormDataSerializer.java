@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.form;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializes form data to {@link SerializedFormData} with the application object mapper, so the
+ * serialized form is exactly the one that used to be sent to digital signature ops service.
+ */
+@Component
+@RequiredArgsConstructor
+public class FormDataSerializer {
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Serializing form data
+   *
+   * @param data form data
+   * @return serialized form data with its digest
+   * @throws IllegalArgumentException if form data couldn't be serialized
+   */
+  public SerializedFormData serialize(Object data) {
+    try {
+      return new SerializedFormData(objectMapper.writeValueAsBytes(data));
+    } catch (JsonProcessingException e) {
+      e.clearLocation();
+      throw new IllegalArgumentException("Couldn't serialize form data", e);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.form;
+
+import com.epam.digital.data.platform.usrtaskmgt.cache.FormDataDigester;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Form data that is serialized to JSON once per request together with its content digest. It's
+ * shared by every stage of the completion pipeline that needs serialized data or its digest
+ * (validation result cache, signature verification and its cache, storage write deduplication).
+ */
+public final class SerializedFormData {
+
+  private final byte[] bytes;
+  private final String digest;
+  private String json;
+
+  SerializedFormData(byte[] bytes) {
+    this.bytes = bytes;
+    this.digest = FormDataDigester.digest(bytes);
+  }
+
+  /**
+   * @return base64url encoded SHA-256 digest of serialized form data
+   */
+  public String getDigest() {
+    return digest;
+  }
+
+  /**
+   * @return size of serialized form data in bytes
+   */
+  public int getSize() {
+    return bytes.length;
+  }
+
+  /**
+   * @return serialized form data as a JSON string (decoded once and reused)
+   */
+  public String asJson() {
+    var result = json;
+    if (Objects.isNull(result)) {
+      result = new String(bytes, StandardCharsets.UTF_8);
+      json = result;
+    }
+    return result;
+  }
+}
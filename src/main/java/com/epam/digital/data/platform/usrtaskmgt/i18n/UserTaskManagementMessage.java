@@ -32,7 +32,15 @@ public enum UserTaskManagementMessage implements MessageTitle {
   USER_TASK_NOT_EXISTS_OR_COMPLETED("user-task.not-exists-or-completed"),
   USER_TASK_ALREADY_ASSIGNED("user-task.already-assigned"),
 
-  USER_TASK_AUTHORIZATION_ERROR("user-task.authorization-error");
+  USER_TASK_AUTHORIZATION_ERROR("user-task.authorization-error"),
+
+  DEPENDENCY_OVERLOADED("dependency.overloaded"),
+  REQUEST_DEADLINE_EXCEEDED("request.deadline-exceeded"),
+
+  BATCH_SIZE_EXCEEDED("batch.size-exceeded"),
+
+  TASK_STREAM_LIMIT_EXCEEDED("task-stream.limit-exceeded"),
+  INVALID_CURSOR("pagination.invalid-cursor");
 
   private final String titleKey;
 }
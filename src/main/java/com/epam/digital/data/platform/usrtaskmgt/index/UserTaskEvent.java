@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.index;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.time.LocalDateTime;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * User task lifecycle event published by business process management. Contains the state of the
+ * task after the change and candidate users and groups of the task, so it's known which users see
+ * an unassigned task.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserTaskEvent {
+
+  private EventType type;
+  private String id;
+  private String taskDefinitionKey;
+  private String name;
+  private String assignee;
+  private LocalDateTime created;
+  private String description;
+  private String processDefinitionName;
+  private String processInstanceId;
+  private String rootProcessInstanceId;
+  private String processDefinitionId;
+  private String formKey;
+  private boolean suspended;
+  private String businessKey;
+  /**
+   * Candidate users of the task, {@code null} if unknown
+   */
+  private Set<String> candidateUsers;
+  /**
+   * Candidate groups of the task, {@code null} if unknown
+   */
+  private Set<String> candidateGroups;
+
+  public enum EventType {
+    CREATED,
+    ASSIGNED,
+    UPDATED,
+    COMPLETED,
+    DELETED
+  }
+}
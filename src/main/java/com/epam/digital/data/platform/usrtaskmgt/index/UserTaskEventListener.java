@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumer of the business process management user task lifecycle events that feeds
+ * {@link UserTaskIndex}. Every replica has its own consumer group, so every replica receives all
+ * the events.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user-task-management.task-index", name = "enabled",
+    havingValue = "true")
+public class UserTaskEventListener {
+
+  private final UserTaskIndex userTaskIndex;
+  private final ObjectMapper objectMapper;
+
+  @KafkaListener(
+      topics = "${user-task-management.task-index.topic:bpm-user-task-events}",
+      groupId = "${spring.application.name}-task-index-#{T(java.util.UUID).randomUUID()}",
+      properties = "auto.offset.reset=${user-task-management.task-index.auto-offset-reset:latest}")
+  public void onEvent(String message) {
+    UserTaskEvent event;
+    try {
+      event = objectMapper.readValue(message, UserTaskEvent.class);
+    } catch (JsonProcessingException ex) {
+      log.warn("Skipping malformed user task event", ex);
+      return;
+    }
+    userTaskIndex.onEvent(event);
+  }
+}
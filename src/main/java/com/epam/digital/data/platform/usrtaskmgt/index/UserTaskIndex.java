@@ -0,0 +1,523 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.index;
+
+import brave.propagation.CurrentTraceContext;
+import brave.propagation.TraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskIndexProperties;
+import com.epam.digital.data.platform.usrtaskmgt.deadline.Deadline;
+import com.epam.digital.data.platform.usrtaskmgt.index.UserTaskEvent.EventType;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * In-memory materialized index of the user tasks that are assigned to the user or unassigned, kept
+ * for every user that requests tasks. The index of the user is built from business process
+ * management, is kept up to date by {@link UserTaskEvent task lifecycle events} and is periodically
+ * reconciled against business process management, task list and task count queries of the user
+ * are served from memory once the index is warm.
+ * <p>
+ * The index of the user isn't warm (and queries fall back to business process management) until
+ * it's reconciled, if the user has more tasks than indexed or if an event of an unassigned task
+ * doesn't say which users see it. Unassigned task is visible to the user that is its candidate
+ * user or has one of its candidate groups. Lightweight task queries filtered by root process
+ * instance and queries sorted by unsupported field are always served by business process
+ * management.
+ * <p>
+ * Reconciliation is executed on the reconciliation executor with the trace context (and so the
+ * access token) of the latest user request. If business process management rejects the access
+ * token, the index of the user goes cold and isn't reconciled until the next request of the user
+ * brings a new token. Exports {@value #QUERIES_COUNTER_NAME} counter tagged by {@code query} and
+ * {@code result} ({@code hit}, {@code miss}), {@value #EVENTS_COUNTER_NAME} counter tagged by
+ * {@code type}, {@value #RECONCILIATIONS_COUNTER_NAME} counter tagged by {@code result} and
+ * {@value #USERS_GAUGE_NAME}, {@value #WARM_USERS_GAUGE_NAME} gauges.
+ */
+@Slf4j
+public class UserTaskIndex {
+
+  public static final String QUERIES_COUNTER_NAME = "usertask.task.index.queries";
+  public static final String EVENTS_COUNTER_NAME = "usertask.task.index.events";
+  public static final String RECONCILIATIONS_COUNTER_NAME = "usertask.task.index.reconciliations";
+  public static final String USERS_GAUGE_NAME = "usertask.task.index.users";
+  public static final String WARM_USERS_GAUGE_NAME = "usertask.task.index.warm.users";
+
+  private static final String ROLE_PREFIX = "ROLE_";
+  private static final Map<String, Comparator<UserTaskResponse>> SORT_FIELDS = Map.of(
+      "created", nullsLast(UserTaskResponse::getCreated),
+      "name", nullsLast(UserTaskResponse::getName),
+      "assignee", nullsLast(UserTaskResponse::getAssignee),
+      "description", nullsLast(UserTaskResponse::getDescription),
+      "id", nullsLast(UserTaskResponse::getId));
+
+  private final ConcurrentMap<String, UserView> views = new ConcurrentHashMap<>();
+  private final Deque<SequencedEvent> recentEvents = new ArrayDeque<>();
+  private long lastEventSequence;
+  private final UserTaskRemoteService userTaskRemoteService;
+  private final TaskIndexProperties properties;
+  private final ContextAwareExecutor reconciliationExecutor;
+  private final CurrentTraceContext currentTraceContext;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledExecutorService scheduler;
+
+  public UserTaskIndex(UserTaskRemoteService userTaskRemoteService,
+      TaskIndexProperties properties, ContextAwareExecutor reconciliationExecutor,
+      CurrentTraceContext currentTraceContext, MeterRegistry meterRegistry) {
+    this.userTaskRemoteService = userTaskRemoteService;
+    this.properties = properties;
+    this.reconciliationExecutor = reconciliationExecutor;
+    this.currentTraceContext = currentTraceContext;
+    this.meterRegistry = meterRegistry;
+    if (!properties.isEnabled()) {
+      this.scheduler = null;
+      return;
+    }
+
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("task-index-"));
+    var interval = properties.getReconciliationInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(this::reconcileAll, interval, interval,
+        TimeUnit.MILLISECONDS);
+    Gauge.builder(USERS_GAUGE_NAME, views, Map::size)
+        .description("Number of users with the task index")
+        .register(meterRegistry);
+    Gauge.builder(WARM_USERS_GAUGE_NAME, views,
+            userViews -> userViews.values().stream().filter(view -> view.warm).count())
+        .description("Number of users whose tasks are served from the task index")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Getting the user tasks of particular process instance from the index
+   *
+   * @param userName          current user name
+   * @param authorities       current user authorities that are matched against candidate groups
+   * @param processInstanceId process instance identifier (nullable)
+   * @param page              pagination and sorting of the tasks
+   * @return the tasks or empty if the query can't be served from the index
+   */
+  public Optional<List<UserTaskResponse>> getTasks(String userName,
+      Collection<String> authorities, String processInstanceId, Pageable page) {
+    return query("tasks", userName, authorities, page,
+        task -> Objects.isNull(processInstanceId)
+            || processInstanceId.equals(task.getProcessInstanceId()),
+        Function.identity());
+  }
+
+  /**
+   * Getting the lightweight user tasks from the index, tasks of particular root process instance
+   * are never served from the index
+   *
+   * @param userName              current user name
+   * @param authorities           current user authorities that are matched against candidate
+   *                              groups
+   * @param rootProcessInstanceId root process instance identifier (nullable)
+   * @param page                  pagination and sorting of the tasks
+   * @return the tasks or empty if the query can't be served from the index
+   */
+  public Optional<List<UserTaskLightweightResponse>> getLightweightTasks(String userName,
+      Collection<String> authorities, String rootProcessInstanceId, Pageable page) {
+    if (Objects.nonNull(rootProcessInstanceId)) {
+      return Optional.empty();
+    }
+    return query("lightweight-tasks", userName, authorities, page, task -> true,
+        task -> new UserTaskLightweightResponse(task.getId(), task.getAssignee()));
+  }
+
+  /**
+   * Counting the user tasks in the index
+   *
+   * @param userName    current user name
+   * @param authorities current user authorities that are matched against candidate groups
+   * @return the task count or empty if the query can't be served from the index
+   */
+  public Optional<CountResponse> countTasks(String userName, Collection<String> authorities) {
+    if (!properties.isEnabled()) {
+      return Optional.empty();
+    }
+    var view = touch(userName, authorities);
+    synchronized (view) {
+      var count = view.warm ? Optional.of(new CountResponse(view.tasks.size()))
+          : Optional.<CountResponse>empty();
+      queryCounter("count", count.isPresent()).increment();
+      return count;
+    }
+  }
+
+  /**
+   * Applying the task lifecycle event to the index of every user
+   *
+   * @param event task lifecycle event
+   */
+  public void onEvent(UserTaskEvent event) {
+    if (!properties.isEnabled() || Objects.isNull(event.getType())
+        || Objects.isNull(event.getId())) {
+      return;
+    }
+    log.debug("Applying {} event of task {} to task index", event.getType(), event.getId());
+    Counter.builder(EVENTS_COUNTER_NAME)
+        .description("Number of user task lifecycle events applied to the task index")
+        .tag("type", event.getType().name().toLowerCase())
+        .register(meterRegistry)
+        .increment();
+
+    synchronized (recentEvents) {
+      recentEvents.addLast(new SequencedEvent(++lastEventSequence, event));
+      while (recentEvents.size() > properties.getRecentEventsCapacity()) {
+        recentEvents.removeFirst();
+      }
+    }
+    views.values().forEach(view -> {
+      synchronized (view) {
+        apply(view, event);
+      }
+    });
+  }
+
+  /**
+   * Applying the task claim made by this replica to the index before the task lifecycle event
+   * arrives
+   *
+   * @param taskId   task identifier
+   * @param assignee user that claimed the task
+   */
+  public void onTaskAssigned(String taskId, String assignee) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    views.values().forEach(view -> {
+      synchronized (view) {
+        var task = view.tasks.get(taskId);
+        if (view.userName.equals(assignee) && Objects.nonNull(task)) {
+          view.tasks.put(taskId, withAssignee(task, assignee));
+        } else if (view.userName.equals(assignee)) {
+          view.warm = false;
+        } else {
+          view.tasks.remove(taskId);
+        }
+      }
+    });
+  }
+
+  /**
+   * Applying the task completion made by this replica to the index before the task lifecycle event
+   * arrives
+   *
+   * @param taskId task identifier
+   */
+  public void onTaskCompleted(String taskId) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    views.values().forEach(view -> {
+      synchronized (view) {
+        view.tasks.remove(taskId);
+      }
+    });
+  }
+
+  public void shutdown() {
+    if (Objects.nonNull(scheduler)) {
+      log.info("Shutting down task index");
+      scheduler.shutdownNow();
+    }
+  }
+
+  private <T> Optional<List<T>> query(String query, String userName,
+      Collection<String> authorities, Pageable page,
+      Predicate<UserTaskResponse> filter,
+      Function<UserTaskResponse, T> mapper) {
+    if (!properties.isEnabled()) {
+      return Optional.empty();
+    }
+    var view = touch(userName, authorities);
+    var comparator = comparator(page);
+    List<UserTaskResponse> tasks;
+    synchronized (view) {
+      if (!view.warm || Objects.isNull(comparator)) {
+        queryCounter(query, false).increment();
+        return Optional.empty();
+      }
+      tasks = view.tasks.values().stream().filter(filter).collect(Collectors.toList());
+    }
+    queryCounter(query, true).increment();
+
+    var firstResult = Objects.requireNonNullElse(page.getFirstResult(), 0);
+    var maxResults = Objects.requireNonNullElse(page.getMaxResults(), Integer.MAX_VALUE);
+    return Optional.of(tasks.stream()
+        .sorted(comparator)
+        .skip(firstResult)
+        .limit(maxResults)
+        .map(mapper)
+        .collect(Collectors.toList()));
+  }
+
+  private UserView touch(String userName, Collection<String> authorities) {
+    var traceContext = currentTraceContext.get();
+    var groups = authorities.stream()
+        .flatMap(authority -> authority.startsWith(ROLE_PREFIX)
+            ? Stream.of(authority, authority.substring(ROLE_PREFIX.length()))
+            : Stream.of(authority))
+        .collect(Collectors.toSet());
+    var isNewView = new AtomicBoolean();
+    var view = views.computeIfAbsent(userName, name -> {
+      isNewView.set(true);
+      return new UserView(name);
+    });
+    view.groups = groups;
+    view.traceContext = traceContext;
+    view.lastAccess = System.nanoTime();
+    if (isNewView.get() || view.unauthorized) {
+      view.unauthorized = false;
+      reconciliationExecutor.runAsync(() -> {
+        Deadline.set(null);
+        reconcile(view);
+      });
+    }
+    return view;
+  }
+
+  private void reconcileAll() {
+    try {
+      var idleTimeout = properties.getIdleTimeout().toNanos();
+      views.values().removeIf(view -> System.nanoTime() - view.lastAccess > idleTimeout);
+      var reconciledViews = views.values().stream()
+          .filter(view -> !view.unauthorized)
+          .collect(Collectors.toList());
+      reconciliationExecutor.invokeAll(reconciledViews,
+          properties.getReconciliationParallelism(), view -> {
+            reconcile(view);
+            return null;
+          });
+    } catch (RuntimeException ex) {
+      log.warn("Task index reconciliation failed", ex);
+    }
+  }
+
+  private void reconcile(UserView view) {
+    long sequence;
+    synchronized (recentEvents) {
+      sequence = lastEventSequence;
+    }
+
+    List<UserTaskResponse> tasks;
+    try (var scope = currentTraceContext.maybeScope(view.traceContext)) {
+      tasks = userTaskRemoteService.getUserTasks(null, view.userName, Pageable.builder()
+          .firstResult(0)
+          .maxResults(properties.getMaxTasksPerUser() + 1)
+          .build());
+    } catch (RuntimeException ex) {
+      if (isUnauthorized(ex)) {
+        log.debug("Task index reconciliation of user is unauthorized", ex);
+        reconciliationCounter("unauthorized").increment();
+        synchronized (view) {
+          view.warm = false;
+          view.unauthorized = true;
+        }
+        return;
+      }
+      log.warn("Task index reconciliation of user failed", ex);
+      reconciliationCounter("error").increment();
+      return;
+    }
+
+    synchronized (view) {
+      if (tasks.size() > properties.getMaxTasksPerUser()) {
+        reconciliationCounter("too-many-tasks").increment();
+        view.warm = false;
+        return;
+      }
+      var missedEvents = getEventsAfter(sequence);
+      view.tasks = tasks.stream().collect(Collectors.toMap(UserTaskResponse::getId,
+          Function.identity(), (first, second) -> first, HashMap::new));
+      view.warm = missedEvents.isPresent();
+      missedEvents.ifPresent(events -> events.forEach(event -> apply(view, event)));
+      reconciliationCounter(view.warm ? "warm" : "cold").increment();
+    }
+  }
+
+  private static boolean isUnauthorized(Throwable ex) {
+    for (var cause = ex; Objects.nonNull(cause); cause = cause.getCause()) {
+      if (cause instanceof FeignException
+          && ((FeignException) cause).status() == HttpStatus.UNAUTHORIZED.value()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Optional<List<UserTaskEvent>> getEventsAfter(long sequence) {
+    synchronized (recentEvents) {
+      var oldest = recentEvents.peekFirst();
+      if (Objects.nonNull(oldest) && oldest.sequence > sequence + 1) {
+        return Optional.empty();
+      }
+      return Optional.of(recentEvents.stream()
+          .filter(event -> event.sequence > sequence)
+          .map(event -> event.event)
+          .collect(Collectors.toList()));
+    }
+  }
+
+  private static void apply(UserView view, UserTaskEvent event) {
+    if (event.getType() == EventType.COMPLETED || event.getType() == EventType.DELETED) {
+      view.tasks.remove(event.getId());
+      return;
+    }
+    var assignee = event.getAssignee();
+    if (view.userName.equals(assignee)) {
+      view.tasks.put(event.getId(), toTask(event));
+    } else if (Objects.nonNull(assignee)) {
+      view.tasks.remove(event.getId());
+    } else if (Objects.isNull(event.getCandidateUsers())
+        && Objects.isNull(event.getCandidateGroups())) {
+      view.warm = false;
+    } else if (isCandidate(view, event)) {
+      view.tasks.put(event.getId(), toTask(event));
+    } else {
+      view.tasks.remove(event.getId());
+    }
+  }
+
+  private static boolean isCandidate(UserView view, UserTaskEvent event) {
+    var candidateUsers = Objects.requireNonNullElse(event.getCandidateUsers(), Set.<String>of());
+    var candidateGroups = Objects.requireNonNullElse(event.getCandidateGroups(),
+        Set.<String>of());
+    return candidateUsers.contains(view.userName)
+        || candidateGroups.stream().anyMatch(view.groups::contains);
+  }
+
+  private static UserTaskResponse toTask(UserTaskEvent event) {
+    return UserTaskResponse.builder()
+        .id(event.getId())
+        .taskDefinitionKey(event.getTaskDefinitionKey())
+        .name(event.getName())
+        .assignee(event.getAssignee())
+        .created(event.getCreated())
+        .description(event.getDescription())
+        .processDefinitionName(event.getProcessDefinitionName())
+        .processInstanceId(event.getProcessInstanceId())
+        .processDefinitionId(event.getProcessDefinitionId())
+        .formKey(event.getFormKey())
+        .suspended(event.isSuspended())
+        .businessKey(event.getBusinessKey())
+        .build();
+  }
+
+  private static UserTaskResponse withAssignee(UserTaskResponse task, String assignee) {
+    return UserTaskResponse.builder()
+        .id(task.getId())
+        .taskDefinitionKey(task.getTaskDefinitionKey())
+        .name(task.getName())
+        .assignee(assignee)
+        .created(task.getCreated())
+        .description(task.getDescription())
+        .processDefinitionName(task.getProcessDefinitionName())
+        .processInstanceId(task.getProcessInstanceId())
+        .processDefinitionId(task.getProcessDefinitionId())
+        .formKey(task.getFormKey())
+        .suspended(task.isSuspended())
+        .businessKey(task.getBusinessKey())
+        .build();
+  }
+
+  private static Comparator<UserTaskResponse> comparator(Pageable page) {
+    var sortBy = Objects.requireNonNullElse(page.getSortBy(), "created");
+    var comparator = SORT_FIELDS.get(sortBy);
+    if (Objects.isNull(comparator)) {
+      return null;
+    }
+    comparator = comparator.thenComparing(SORT_FIELDS.get("id"));
+    return "desc".equalsIgnoreCase(page.getSortOrder()) ? comparator.reversed() : comparator;
+  }
+
+  private static <U extends Comparable<? super U>> Comparator<UserTaskResponse> nullsLast(
+      Function<UserTaskResponse, U> field) {
+    return Comparator.comparing(field, Comparator.nullsLast(Comparator.naturalOrder()));
+  }
+
+  private Counter queryCounter(String query, boolean hit) {
+    return Counter.builder(QUERIES_COUNTER_NAME)
+        .description("Number of task queries by the task index result")
+        .tag("query", query)
+        .tag("result", hit ? "hit" : "miss")
+        .register(meterRegistry);
+  }
+
+  private Counter reconciliationCounter(String result) {
+    return Counter.builder(RECONCILIATIONS_COUNTER_NAME)
+        .description("Number of task index reconciliations against business process management")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static final class UserView {
+
+    private final String userName;
+    private volatile Set<String> groups = Set.of();
+    private volatile TraceContext traceContext;
+    private volatile long lastAccess;
+    private volatile boolean warm;
+    private volatile boolean unauthorized;
+    private Map<String, UserTaskResponse> tasks = new HashMap<>();
+
+    private UserView(String userName) {
+      this.userName = userName;
+    }
+  }
+
+  private static final class SequencedEvent {
+
+    private final long sequence;
+    private final UserTaskEvent event;
+
+    private SequencedEvent(long sequence, UserTaskEvent event) {
+      this.sequence = sequence;
+      this.event = event;
+    }
+  }
+}
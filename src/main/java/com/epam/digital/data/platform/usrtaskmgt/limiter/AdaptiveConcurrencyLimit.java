@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.limiter;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.ConcurrencyLimitProperties.Group;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that learns the sustainable number of in-flight requests from the observed
+ * latency (gradient algorithm with additive increase and multiplicative decrease on overload).
+ * <p>
+ * Latency of every request is averaged over a window of requests (short-term latency) and the
+ * window averages are smoothed to the long-term latency. At the end of every window the limit is
+ * multiplied by the gradient {@code tolerance * longRtt / shortRtt} (between 0.5 and 1) and
+ * increased by the square root of the limit, so the limit grows while latency is stable and
+ * shrinks once requests start queueing downstream. The limit grows only if it was actually
+ * reached, so an idle service doesn't inflate it. When a downstream dependency reports overload
+ * the limit is reduced by the backoff ratio immediately.
+ */
+public class AdaptiveConcurrencyLimit {
+
+  private final Group settings;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private volatile double limit;
+  private double longRttNanos;
+  private long windowRttSumNanos;
+  private int windowSamples;
+  private int windowMaxInFlight;
+
+  public AdaptiveConcurrencyLimit(Group settings) {
+    this.settings = settings;
+    this.limit = settings.getInitialLimit();
+  }
+
+  /**
+   * Acquiring an in-flight slot
+   *
+   * @return true if the request is allowed, false if the limit is reached
+   */
+  public boolean tryAcquire() {
+    var current = inFlight.incrementAndGet();
+    if (current > (int) limit) {
+      inFlight.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Releasing the slot of the request that has been processed
+   *
+   * @param rttNanos request latency
+   */
+  public void onSuccess(long rttNanos) {
+    var current = inFlight.getAndDecrement();
+    synchronized (this) {
+      windowRttSumNanos += rttNanos;
+      windowSamples++;
+      windowMaxInFlight = Math.max(windowMaxInFlight, current);
+      if (windowSamples >= settings.getWindowSize()) {
+        updateLimit();
+      }
+    }
+  }
+
+  /**
+   * Releasing the slot of the request that wasn't served because of downstream overload
+   */
+  public void onOverload() {
+    inFlight.decrementAndGet();
+    synchronized (this) {
+      limit = clamp(limit * settings.getBackoffRatio());
+    }
+  }
+
+  /**
+   * Releasing the slot of the request which latency isn't representative (e.g. client errors)
+   */
+  public void onIgnore() {
+    inFlight.decrementAndGet();
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private void updateLimit() {
+    var shortRttNanos = (double) windowRttSumNanos / windowSamples;
+    var maxInFlight = windowMaxInFlight;
+    windowRttSumNanos = 0;
+    windowSamples = 0;
+    windowMaxInFlight = 0;
+
+    if (longRttNanos == 0) {
+      longRttNanos = shortRttNanos;
+      return;
+    }
+    var longWindowSize = settings.getLongWindowSize();
+    longRttNanos = (longRttNanos * (longWindowSize - 1) + shortRttNanos) / longWindowSize;
+    // recover faster from a latency spike that has inflated the long-term latency
+    if (longRttNanos / shortRttNanos > 2) {
+      longRttNanos *= 0.95;
+    }
+    if (maxInFlight < limit / 2) {
+      return;
+    }
+
+    var gradient = Math.max(0.5,
+        Math.min(1.0, settings.getRttTolerance() * longRttNanos / shortRttNanos));
+    var newLimit = limit * gradient + Math.sqrt(limit);
+    limit = clamp(limit * (1 - settings.getSmoothing()) + newLimit * settings.getSmoothing());
+  }
+
+  private double clamp(double value) {
+    return Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), value));
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.limiter;
+
+import com.epam.digital.data.platform.starter.errorhandling.BaseRestExceptionHandler;
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.epam.digital.data.platform.usrtaskmgt.config.ConcurrencyLimitProperties;
+import com.epam.digital.data.platform.usrtaskmgt.i18n.UserTaskManagementMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Sheds load of the user task API with fast {@code 503 Service Unavailable} responses instead of
+ * queueing requests in the servlet container once the {@link AdaptiveConcurrencyLimit adaptive
+ * concurrency limit} of the endpoint group (reads or completions) is reached. The limit backs
+ * off only on {@link DownstreamOverload downstream overload signals}, not on 503 and 504 responses
+ * the client can provoke itself (an expired client time budget, the task stream connection cap).
+ * <p>
+ * Exports {@value #LIMIT_GAUGE_NAME}, {@value #IN_FLIGHT_GAUGE_NAME} gauges and
+ * {@value #REJECTIONS_COUNTER_NAME} counter tagged by {@code group}.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  public static final String LIMIT_GAUGE_NAME = "usertask.concurrency.limit";
+  public static final String IN_FLIGHT_GAUGE_NAME = "usertask.concurrency.in.flight";
+  public static final String REJECTIONS_COUNTER_NAME = "usertask.concurrency.rejections";
+
+  private static final String API_PATH_PREFIX = "/api/";
+
+  private final ConcurrencyLimitProperties properties;
+  private final MessageResolver messageResolver;
+  private final ObjectMapper objectMapper;
+  private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+  private final Map<EndpointGroup, AdaptiveConcurrencyLimit> limits =
+      new EnumMap<>(EndpointGroup.class);
+  private final Map<EndpointGroup, Counter> rejections = new EnumMap<>(EndpointGroup.class);
+
+  public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties,
+      MessageResolver messageResolver, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.messageResolver = messageResolver;
+    this.objectMapper = objectMapper;
+    register(EndpointGroup.READ, new AdaptiveConcurrencyLimit(properties.getRead()),
+        meterRegistry);
+    register(EndpointGroup.COMPLETION, new AdaptiveConcurrencyLimit(properties.getCompletion()),
+        meterRegistry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled()
+        || !urlPathHelper.getPathWithinApplication(request).startsWith(API_PATH_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    var group = HttpMethod.GET.matches(request.getMethod()) ? EndpointGroup.READ
+        : EndpointGroup.COMPLETION;
+    var limit = limits.get(group);
+    if (!limit.tryAcquire()) {
+      rejections.get(group).increment();
+      log.warn("Concurrency limit {} of {} endpoints is reached, request is rejected",
+          limit.getLimit(), group.getTagValue());
+      writeServiceUnavailable(response);
+      return;
+    }
+
+    var startNanos = System.nanoTime();
+    var succeeded = false;
+    try {
+      filterChain.doFilter(request, response);
+      succeeded = true;
+    } finally {
+      release(limit, request, response, succeeded, System.nanoTime() - startNanos);
+    }
+  }
+
+  private void release(AdaptiveConcurrencyLimit limit, HttpServletRequest request,
+      HttpServletResponse response, boolean succeeded, long rttNanos) {
+    var status = response.getStatus();
+    if (request.isAsyncStarted()) {
+      limit.onIgnore();
+    } else if (DownstreamOverload.isSignalled(request)) {
+      limit.onOverload();
+    } else if (!succeeded || status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+      limit.onIgnore();
+    } else {
+      limit.onSuccess(rttNanos);
+    }
+  }
+
+  private void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+    var systemErrorDto = SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .message("Concurrency limit is reached")
+        .code(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()))
+        .localizedMessage(
+            messageResolver.getMessage(UserTaskManagementMessage.DEPENDENCY_OVERLOADED))
+        .build();
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    objectMapper.writeValue(response.getOutputStream(), systemErrorDto);
+  }
+
+  private void register(EndpointGroup group, AdaptiveConcurrencyLimit limit,
+      MeterRegistry meterRegistry) {
+    limits.put(group, limit);
+    Gauge.builder(LIMIT_GAUGE_NAME, limit, AdaptiveConcurrencyLimit::getLimit)
+        .description("Current adaptive concurrency limit of the endpoint group")
+        .tag("group", group.getTagValue())
+        .register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_GAUGE_NAME, limit, AdaptiveConcurrencyLimit::getInFlight)
+        .description("Number of in-flight requests of the endpoint group")
+        .tag("group", group.getTagValue())
+        .register(meterRegistry);
+    rejections.put(group, Counter.builder(REJECTIONS_COUNTER_NAME)
+        .description("Number of requests rejected by the concurrency limit")
+        .tag("group", group.getTagValue())
+        .register(meterRegistry));
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private enum EndpointGroup {
+    READ("read"),
+    COMPLETION("completion");
+
+    private final String tagValue;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.limiter;
+
+import java.util.Objects;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Marks the current request as one that has run into downstream overload: a full bulkhead, a
+ * downstream call that timed out within its own timeout (not the shorter time budget requested by
+ * the client) or a downstream overload response. Only marked requests make
+ * {@link ConcurrencyLimitFilter} back off, so responses the client can provoke itself (e.g. by a
+ * tiny request timeout) never shrink the shared concurrency limit.
+ * <p>
+ * The mark is a request attribute, so it's set from the threads of
+ * {@link com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor} as well.
+ */
+public final class DownstreamOverload {
+
+  static final String ATTRIBUTE_NAME = DownstreamOverload.class.getName();
+
+  private DownstreamOverload() {
+  }
+
+  /**
+   * Marking the current request (if there is any) as overloaded downstream
+   */
+  public static void signal() {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (Objects.isNull(requestAttributes)) {
+      return;
+    }
+    try {
+      requestAttributes.setAttribute(ATTRIBUTE_NAME, Boolean.TRUE,
+          RequestAttributes.SCOPE_REQUEST);
+    } catch (IllegalStateException ex) {
+      // the request has already completed (e.g. a losing hedged read), nothing to mark
+    }
+  }
+
+  static boolean isSignalled(HttpServletRequest request) {
+    return Objects.nonNull(request.getAttribute(ATTRIBUTE_NAME));
+  }
+}
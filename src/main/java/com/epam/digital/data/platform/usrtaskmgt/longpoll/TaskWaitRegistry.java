@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.longpoll;
+
+import brave.propagation.CurrentTraceContext;
+import brave.propagation.TraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.config.LongPollProperties;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Long polling of the lightweight user tasks. Requests that wait for the tasks of the same root
+ * process instance, user and page share one poll loop: business process management is polled
+ * once per loop iteration regardless of the number of waiting requests and the poll interval
+ * grows with every empty result. Once the tasks appear every waiting request is completed with
+ * them, a request that waits longer than its timeout is completed with empty list.
+ * <p>
+ * Polls are executed with the trace context (and so the access token) of the latest request that
+ * joined the loop. Exports {@value #WAITERS_GAUGE_NAME} gauge and {@value #POLLS_COUNTER_NAME}
+ * counter tagged by {@code result} ({@code found}, {@code empty}, {@code error}).
+ */
+@Slf4j
+public class TaskWaitRegistry {
+
+  public static final String WAITERS_GAUGE_NAME = "usertask.long.poll.waiters";
+  public static final String POLLS_COUNTER_NAME = "usertask.long.poll.polls";
+
+  private final Map<List<Object>, PollLoop> pollLoops = new HashMap<>();
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final UserTaskRemoteService userTaskRemoteService;
+  private final LongPollProperties properties;
+  private final CurrentTraceContext currentTraceContext;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledExecutorService scheduler;
+
+  public TaskWaitRegistry(UserTaskRemoteService userTaskRemoteService,
+      LongPollProperties properties, CurrentTraceContext currentTraceContext,
+      MeterRegistry meterRegistry) {
+    this.userTaskRemoteService = userTaskRemoteService;
+    this.properties = properties;
+    this.currentTraceContext = currentTraceContext;
+    this.meterRegistry = meterRegistry;
+    this.scheduler = Executors.newScheduledThreadPool(properties.getPollerThreads(),
+        new CustomizableThreadFactory("long-poll-"));
+    Gauge.builder(WAITERS_GAUGE_NAME, waiters, AtomicInteger::get)
+        .description("Number of requests waiting for user tasks")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Waiting for the lightweight user tasks of the root process instance that are assigned to the
+   * user or unassigned
+   *
+   * @param rootProcessInstanceId root process instance identifier (nullable)
+   * @param assignee              current user name
+   * @param page                  pagination and sorting of the tasks
+   * @param timeout               maximum time to wait, is shrunk to the configured maximum
+   * @return future that is completed with the found tasks or with empty list on timeout
+   */
+  public CompletableFuture<List<UserTaskLightweightResponse>> waitForLightweightTasks(
+      String rootProcessInstanceId, String assignee, Pageable page, Duration timeout) {
+    var waiter = new CompletableFuture<List<UserTaskLightweightResponse>>();
+    var key = Arrays.<Object>asList(rootProcessInstanceId, assignee, page);
+    synchronized (pollLoops) {
+      var pollLoop = pollLoops.get(key);
+      if (Objects.isNull(pollLoop)) {
+        pollLoop = new PollLoop(key, rootProcessInstanceId, assignee, page);
+        pollLoops.put(key, pollLoop);
+        schedule(pollLoop, Duration.ZERO);
+      }
+      pollLoop.waiters.add(waiter);
+      pollLoop.traceContext = currentTraceContext.get();
+    }
+    waiters.incrementAndGet();
+
+    var effectiveTimeout = timeout.compareTo(properties.getMaxTimeout()) > 0
+        ? properties.getMaxTimeout() : timeout;
+    var timeoutFuture = scheduler.schedule(() -> waiter.complete(List.of()),
+        effectiveTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    waiter.whenComplete((tasks, ex) -> {
+      timeoutFuture.cancel(false);
+      removeWaiter(key, waiter);
+    });
+    return waiter;
+  }
+
+  public void shutdown() {
+    log.info("Shutting down long poll scheduler");
+    scheduler.shutdownNow();
+    List<CompletableFuture<List<UserTaskLightweightResponse>>> pendingWaiters = new ArrayList<>();
+    synchronized (pollLoops) {
+      pollLoops.values().forEach(pollLoop -> pendingWaiters.addAll(pollLoop.waiters));
+      pollLoops.clear();
+    }
+    pendingWaiters.forEach(waiter -> waiter.complete(List.of()));
+  }
+
+  private void poll(PollLoop pollLoop) {
+    List<UserTaskLightweightResponse> tasks;
+    try (var scope = currentTraceContext.maybeScope(pollLoop.traceContext)) {
+      tasks = userTaskRemoteService.getLightweightUserTasks(pollLoop.rootProcessInstanceId,
+          pollLoop.assignee, pollLoop.page);
+      counter(tasks.isEmpty() ? "empty" : "found").increment();
+    } catch (RuntimeException ex) {
+      log.warn("Long poll of tasks of root process instance {} failed",
+          pollLoop.rootProcessInstanceId, ex);
+      counter("error").increment();
+      tasks = List.of();
+    }
+
+    List<CompletableFuture<List<UserTaskLightweightResponse>>> completedWaiters = List.of();
+    synchronized (pollLoops) {
+      if (!tasks.isEmpty()) {
+        completedWaiters = new ArrayList<>(pollLoop.waiters);
+        pollLoop.waiters.clear();
+      }
+      if (pollLoop.waiters.isEmpty()) {
+        pollLoops.remove(pollLoop.key, pollLoop);
+      } else {
+        pollLoop.interval = nextInterval(pollLoop.interval);
+        schedule(pollLoop, pollLoop.interval);
+      }
+    }
+    var foundTasks = tasks;
+    completedWaiters.forEach(waiter -> waiter.complete(foundTasks));
+  }
+
+  private void removeWaiter(List<Object> key,
+      CompletableFuture<List<UserTaskLightweightResponse>> waiter) {
+    waiters.decrementAndGet();
+    synchronized (pollLoops) {
+      var pollLoop = pollLoops.get(key);
+      if (Objects.nonNull(pollLoop)) {
+        pollLoop.waiters.remove(waiter);
+      }
+    }
+  }
+
+  private Duration nextInterval(Duration interval) {
+    if (interval.isZero()) {
+      return properties.getInitialInterval();
+    }
+    var next = Duration.ofMillis((long) (interval.toMillis() * properties.getBackoffMultiplier()));
+    return next.compareTo(properties.getMaxInterval()) > 0 ? properties.getMaxInterval() : next;
+  }
+
+  private void schedule(PollLoop pollLoop, Duration delay) {
+    scheduler.schedule(() -> poll(pollLoop), delay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private Counter counter(String result) {
+    return Counter.builder(POLLS_COUNTER_NAME)
+        .description("Number of business process management polls for waiting requests")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static final class PollLoop {
+
+    private final List<Object> key;
+    private final String rootProcessInstanceId;
+    private final String assignee;
+    private final Pageable page;
+    private final List<CompletableFuture<List<UserTaskLightweightResponse>>> waiters =
+        new ArrayList<>();
+    private TraceContext traceContext;
+    private Duration interval = Duration.ZERO;
+
+    private PollLoop(List<Object> key, String rootProcessInstanceId, String assignee,
+        Pageable page) {
+      this.key = key;
+      this.rootProcessInstanceId = rootProcessInstanceId;
+      this.assignee = assignee;
+      this.page = page;
+    }
+  }
+}
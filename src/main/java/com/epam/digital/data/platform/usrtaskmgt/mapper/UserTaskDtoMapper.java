@@ -62,6 +62,15 @@ public interface UserTaskDtoMapper {
    */
   SignableDataUserTaskResponse toSignableDataUserTaskDto(DdmSignableTaskDto signableUserTaskDto);
 
+  /**
+   * Method for copying {@link SignableDataUserTaskResponse} entity, so the copy can be modified
+   * without affecting the cached source entity
+   *
+   * @param userTask user task entity
+   * @return a copy of user task entity
+   */
+  SignableDataUserTaskResponse copySignableDataUserTaskDto(SignableDataUserTaskResponse userTask);
+
   CountResponse toCountResponse(DdmCountResultDto dto);
 
   CompletedTaskResponse toCompletedTaskResponse(DdmCompletedTaskDto dto);
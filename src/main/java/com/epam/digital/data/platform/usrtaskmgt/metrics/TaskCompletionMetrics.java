@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records latency of every stage of the user task completion pipeline (task fetching, assignee
+ * check, form validation, signature verification, form data storing and task completion in
+ * Camunda).
+ * <p>
+ * Every stage is recorded to the {@value #STAGE_TIMER_NAME} timer tagged with the completion
+ * {@link Endpoint endpoint}, the {@link Stage stage}, the outcome and the exception class name.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskCompletionMetrics {
+
+  public static final String STAGE_TIMER_NAME = "usertask.completion.stage";
+
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_ERROR = "error";
+  private static final String NO_EXCEPTION = "none";
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Executes the stage action and records its duration
+   *
+   * @param endpoint completion endpoint that executes the stage
+   * @param stage    stage of the completion pipeline
+   * @param action   stage action itself
+   * @param <T>      type of the stage result
+   * @return the stage result
+   */
+  public <T> T record(Endpoint endpoint, Stage stage, Supplier<T> action) {
+    var sample = Timer.start(meterRegistry);
+    try {
+      var result = action.get();
+      sample.stop(timer(endpoint, stage, OUTCOME_SUCCESS, NO_EXCEPTION));
+      return result;
+    } catch (RuntimeException | Error ex) {
+      sample.stop(timer(endpoint, stage, OUTCOME_ERROR, ex.getClass().getSimpleName()));
+      throw ex;
+    }
+  }
+
+  /**
+   * Executes the stage action that has no result and records its duration
+   *
+   * @param endpoint completion endpoint that executes the stage
+   * @param stage    stage of the completion pipeline
+   * @param action   stage action itself
+   */
+  public void record(Endpoint endpoint, Stage stage, Runnable action) {
+    record(endpoint, stage, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  private Timer timer(Endpoint endpoint, Stage stage, String outcome, String exception) {
+    return Timer.builder(STAGE_TIMER_NAME)
+        .description("Duration of the user task completion pipeline stage")
+        .tag("endpoint", endpoint.getTagValue())
+        .tag("stage", stage.getTagValue())
+        .tag("outcome", outcome)
+        .tag("exception", exception)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Endpoints that run the completion pipeline
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public enum Endpoint {
+    COMPLETE("complete"),
+    OFFICER_SIGN("officer-sign"),
+    CITIZEN_SIGN("citizen-sign"),
+    SAVE("save");
+
+    private final String tagValue;
+  }
+
+  /**
+   * Stages of the completion pipeline
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public enum Stage {
+    TASK_FETCH("task-fetch"),
+    ASSIGNEE_CHECK("assignee-check"),
+    FORM_VALIDATION("form-validation"),
+    SIGNATURE_VERIFICATION("signature-verification"),
+    FORM_DATA_STORAGE("form-data-storage"),
+    TASK_COMPLETION("task-completion");
+
+    private final String tagValue;
+  }
+}
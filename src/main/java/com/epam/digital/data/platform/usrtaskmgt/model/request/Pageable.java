@@ -37,4 +37,9 @@ public class Pageable {
   private Integer maxResults;
   private String sortBy;
   private String sortOrder;
+  /**
+   * Opaque cursor of the page returned by the previous request. Sorting is taken from the cursor
+   * and first result is ignored if it's present.
+   */
+  private String cursor;
 }
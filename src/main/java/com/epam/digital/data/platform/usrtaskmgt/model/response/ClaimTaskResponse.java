@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Class that represents the result of claiming a single task of bulk claim request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimTaskResponse {
+
+  private String taskId;
+  private ClaimStatus status;
+
+  public enum ClaimStatus {
+    CLAIMED,
+    ALREADY_ASSIGNED,
+    NOT_FOUND,
+    /**
+     * The task wasn't claimed because of an unexpected error, the claim can be retried
+     */
+    FAILED
+  }
+}
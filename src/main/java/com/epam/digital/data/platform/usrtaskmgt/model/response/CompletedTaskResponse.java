@@ -16,6 +16,10 @@
 
 package com.epam.digital.data.platform.usrtaskmgt.model.response;
 
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,6 +30,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class CompletedTaskResponse {
 
   private String id;
@@ -33,6 +38,12 @@ public class CompletedTaskResponse {
   private String rootProcessInstanceId;
   private boolean rootProcessInstanceEnded;
   private Map<String, VariableValueResponse> variables;
+  /**
+   * Next user task of the same root process instance, is present only if it was requested and
+   * found
+   */
+  @JsonInclude(Include.NON_NULL)
+  private SignableDataUserTaskResponse nextTask;
 
   @Data
   @Builder
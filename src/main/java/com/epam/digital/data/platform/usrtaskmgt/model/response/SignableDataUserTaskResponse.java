@@ -18,6 +18,8 @@ package com.epam.digital.data.platform.usrtaskmgt.model.response;
 
 import com.epam.digital.data.platform.bpms.api.dto.DdmSignableTaskDto;
 import com.epam.digital.data.platform.dso.api.dto.Subject;
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +35,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class SignableDataUserTaskResponse {
 
   private String id;
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Class that represents a single task of bulk task fetch request. Contains either the task with
+ * pre-populated form data or the reason why it couldn't be fetched.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class TaskBatchItemResponse {
+
+  private String taskId;
+  private TaskBatchItemStatus status;
+  private SignableDataUserTaskResponse task;
+  private String message;
+
+  public static TaskBatchItemResponse found(SignableDataUserTaskResponse task) {
+    return new TaskBatchItemResponse(task.getId(), TaskBatchItemStatus.FOUND, task, null);
+  }
+
+  public static TaskBatchItemResponse failed(String taskId, TaskBatchItemStatus status,
+      String message) {
+    return new TaskBatchItemResponse(taskId, status, null, message);
+  }
+
+  public enum TaskBatchItemStatus {
+    FOUND,
+    NOT_FOUND,
+    /**
+     * The task isn't assigned to current user
+     */
+    FORBIDDEN,
+    /**
+     * The task wasn't fetched because of an unexpected error, the fetch can be retried
+     */
+    FAILED
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Class that represents the change of the user lightweight task list pushed to the task stream
+ * subscribers. The first change after subscription contains the whole list in {@code added}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskListChangeResponse {
+
+  /**
+   * Tasks that were added to the list or changed (e.g. claimed)
+   */
+  private List<UserTaskLightweightResponse> added;
+  /**
+   * Ids of the tasks that were removed from the list (e.g. completed)
+   */
+  private List<String> removed;
+}
@@ -1,5 +1,7 @@
 package com.epam.digital.data.platform.usrtaskmgt.model.response;
 
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +11,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class UserTaskLightweightResponse {
 
   private String id;
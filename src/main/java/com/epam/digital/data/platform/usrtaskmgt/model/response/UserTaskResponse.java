@@ -16,6 +16,8 @@
 
 package com.epam.digital.data.platform.usrtaskmgt.model.response;
 
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,6 +28,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class UserTaskResponse {
 
   private String id;
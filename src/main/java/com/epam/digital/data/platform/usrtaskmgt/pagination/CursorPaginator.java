@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.pagination;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.PaginationProperties;
+import com.epam.digital.data.platform.usrtaskmgt.exception.InvalidCursorException;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CursorPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cursor pagination of the task lists on top of the offset pagination of business process
+ * management.
+ * <p>
+ * The cursor remembers the last task of the page. The next page is requested with a window of
+ * {@link PaginationProperties#getAnchorWindow() anchor window} tasks around the expected
+ * position of that task and starts right after it, so tasks that were created or completed
+ * between the requests don't make the pages overlap or skip tasks. If the last task isn't in
+ * the list anymore the page starts at its remembered position.
+ */
+@Component
+@RequiredArgsConstructor
+public class CursorPaginator {
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final ObjectMapper objectMapper;
+  private final PaginationProperties properties;
+
+  /**
+   * Getting the task page. The page is requested by the cursor if it's present in the page
+   * request, or by the offset otherwise.
+   *
+   * @param page     pagination and sorting of the tasks, sorting is taken from the cursor if it's
+   *                 present
+   * @param query    task list query with offset pagination
+   * @param idGetter task identifier getter
+   * @param <T>      type of the task
+   * @return the tasks and the cursor of the next page
+   * @throws InvalidCursorException if the cursor can't be decoded
+   */
+  public <T> CursorPage<T> getPage(Pageable page, Function<Pageable, List<T>> query,
+      Function<T, String> idGetter) {
+    if (Objects.isNull(page.getCursor())) {
+      var tasks = query.apply(page);
+      var offset = Objects.requireNonNullElse(page.getFirstResult(), 0);
+      return new CursorPage<>(tasks, nextCursor(page.getSortBy(), page.getSortOrder(),
+          page.getMaxResults(), offset, tasks, idGetter));
+    }
+
+    var cursor = decode(page.getCursor());
+    var maxResults = page.getMaxResults();
+    var lastTaskPosition = cursor.getOffset() - 1;
+    var windowStart = Math.max(0, lastTaskPosition - properties.getAnchorWindow());
+    var windowSize = Objects.isNull(maxResults) ? null
+        : cursor.getOffset() - windowStart + maxResults + properties.getAnchorWindow();
+    var window = query.apply(page(cursor, windowStart, windowSize));
+
+    var start = Math.min(lastTaskPosition - windowStart, window.size());
+    for (var i = 0; i < window.size(); i++) {
+      if (cursor.getLastTaskId().equals(idGetter.apply(window.get(i)))) {
+        start = i + 1;
+        break;
+      }
+    }
+    var end = Objects.isNull(maxResults) ? window.size()
+        : Math.min(window.size(), start + maxResults);
+    var tasks = new ArrayList<>(window.subList(start, end));
+    if (Objects.nonNull(maxResults) && tasks.size() < maxResults
+        && window.size() == windowSize) {
+      tasks.addAll(query.apply(page(cursor, windowStart + window.size(),
+          maxResults - tasks.size())));
+    }
+    return new CursorPage<>(tasks, nextCursor(cursor.getSortBy(), cursor.getSortOrder(),
+        maxResults, windowStart + start, tasks, idGetter));
+  }
+
+  private <T> String nextCursor(String sortBy, String sortOrder, Integer maxResults, int offset,
+      List<T> tasks, Function<T, String> idGetter) {
+    if (Objects.isNull(maxResults) || tasks.isEmpty() || tasks.size() < maxResults) {
+      return null;
+    }
+    return encode(TaskCursor.builder()
+        .sortBy(sortBy)
+        .sortOrder(sortOrder)
+        .offset(offset + tasks.size())
+        .lastTaskId(idGetter.apply(tasks.get(tasks.size() - 1)))
+        .build());
+  }
+
+  private static Pageable page(TaskCursor cursor, int firstResult, Integer maxResults) {
+    return Pageable.builder()
+        .firstResult(firstResult)
+        .maxResults(maxResults)
+        .sortBy(cursor.getSortBy())
+        .sortOrder(cursor.getSortOrder())
+        .build();
+  }
+
+  private String encode(TaskCursor cursor) {
+    try {
+      return ENCODER.encodeToString(objectMapper.writeValueAsBytes(cursor));
+    } catch (IOException ex) {
+      throw new IllegalStateException("Couldn't encode pagination cursor", ex);
+    }
+  }
+
+  private TaskCursor decode(String value) {
+    TaskCursor cursor;
+    try {
+      cursor = objectMapper.readValue(DECODER.decode(value), TaskCursor.class);
+    } catch (IOException | IllegalArgumentException ex) {
+      throw new InvalidCursorException(value, ex);
+    }
+    if (cursor.getOffset() < 1 || Objects.isNull(cursor.getLastTaskId())) {
+      throw new InvalidCursorException(value, null);
+    }
+    return cursor;
+  }
+}
@@ -19,7 +19,7 @@ package com.epam.digital.data.platform.usrtaskmgt.remote;
 import com.epam.digital.data.platform.dso.api.dto.Subject;
 import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
 import com.epam.digital.data.platform.usrtaskmgt.exception.SignatureValidationException;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.epam.digital.data.platform.usrtaskmgt.form.SerializedFormData;
 import java.util.Set;
 import org.springframework.lang.NonNull;
 
@@ -28,22 +28,23 @@ import org.springframework.lang.NonNull;
  * data}.
  * <p>
  * Provides such methods:
- * <li>{@link DigitalSignatureRemoteService#verifyOfficerFormData(FormDataDto)} for verifying
- * officer form data</li>
- * <li>{@link DigitalSignatureRemoteService#verifyCitizenFormData(Set, FormDataDto)} for verifying
- * citizen form data</li>
+ * <li>{@link DigitalSignatureRemoteService#verifyOfficerFormData(FormDataDto,
+ * SerializedFormData)} for verifying officer form data</li>
+ * <li>{@link DigitalSignatureRemoteService#verifyCitizenFormData(Set, FormDataDto,
+ * SerializedFormData)} for verifying citizen form data</li>
  */
 public interface DigitalSignatureRemoteService {
 
   /**
    * Verify signed form data by officer
    *
-   * @param formData object that contains form data itself and its signature
-   * @throws IllegalArgumentException     if there was a {@link JsonProcessingException} an
-   *                                      exception during form data serialization
+   * @param formData       object that contains form data itself and its signature
+   * @param serializedData form data that is already serialized
+   * @param userName       current user name
    * @throws SignatureValidationException if signature isn't corresponds to form data
    */
-  void verifyOfficerFormData(@NonNull FormDataDto formData);
+  void verifyOfficerFormData(@NonNull FormDataDto formData,
+      @NonNull SerializedFormData serializedData, @NonNull String userName);
 
   /**
    * Verify signed form data by citizen. Checks if form data was signed by user with different
@@ -52,10 +53,11 @@ public interface DigitalSignatureRemoteService {
    * @param signatureValidationPack set of allowed citizen subjects that should be verified (will be
    *                                verified individual subject if it's empty)
    * @param formData                object that contains form data itself and its signature
-   * @throws IllegalArgumentException     if there was a {@link JsonProcessingException} an
-   *                                      exception during form data serialization
+   * @param serializedData          form data that is already serialized
+   * @param userName                current user name
    * @throws SignatureValidationException if signature isn't corresponds to form data
    */
   void verifyCitizenFormData(@NonNull Set<Subject> signatureValidationPack,
-      @NonNull FormDataDto formData);
+      @NonNull FormDataDto formData, @NonNull SerializedFormData serializedData,
+      @NonNull String userName);
 }
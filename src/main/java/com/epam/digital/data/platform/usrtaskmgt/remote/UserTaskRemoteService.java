@@ -70,12 +70,13 @@ public interface UserTaskRemoteService {
    * Getting user task by id and verifying if current user should have access for the task (user has
    * access to task in camunda, but it's already assigned to another user)
    *
-   * @param taskId id of current task
+   * @param taskId   id of current task
+   * @param userName name of current user (the task is requested with their authorization)
    * @return user task object
    * @throws TaskNotFoundException if user task with this id is not exists
    */
   @NonNull
-  SignableDataUserTaskResponse getUserTaskById(@NonNull String taskId);
+  SignableDataUserTaskResponse getUserTaskById(@NonNull String taskId, @NonNull String userName);
 
   /**
    * Assigning user task to a user
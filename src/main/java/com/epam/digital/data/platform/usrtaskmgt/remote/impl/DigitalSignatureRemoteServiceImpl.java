@@ -21,10 +21,12 @@ import com.epam.digital.data.platform.dso.api.dto.VerificationRequestDto;
 import com.epam.digital.data.platform.dso.api.dto.VerifySubjectRequestDto;
 import com.epam.digital.data.platform.dso.client.DigitalSignatureRestClient;
 import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry.Dependency;
+import com.epam.digital.data.platform.usrtaskmgt.cache.SignatureVerificationCache;
 import com.epam.digital.data.platform.usrtaskmgt.exception.SignatureValidationException;
+import com.epam.digital.data.platform.usrtaskmgt.form.SerializedFormData;
 import com.epam.digital.data.platform.usrtaskmgt.remote.DigitalSignatureRemoteService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -38,54 +40,58 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class DigitalSignatureRemoteServiceImpl implements DigitalSignatureRemoteService {
 
+  private static final String OFFICER_VERIFICATION = "officer";
+  private static final String CITIZEN_VERIFICATION = "citizen";
+
   private final DigitalSignatureRestClient digitalSignatureRestClient;
-  private final ObjectMapper objectMapper;
+  private final SignatureVerificationCache signatureVerificationCache;
+  private final BulkheadRegistry bulkheadRegistry;
 
   @Override
-  public void verifyOfficerFormData(@NonNull FormDataDto formData) {
+  public void verifyOfficerFormData(@NonNull FormDataDto formData,
+      @NonNull SerializedFormData serializedData, @NonNull String userName) {
     log.debug("Verifying officer signed form data.");
 
     var signature = formData.getSignature();
-    var data = serializeFormData(formData.getData());
-    var requestDto = new VerificationRequestDto(signature, data);
 
-    var verifyResponseDto = digitalSignatureRestClient.verifyOfficer(requestDto);
+    signatureVerificationCache.verify(OFFICER_VERIFICATION, userName, List.of(), signature,
+        serializedData.getDigest(), () -> {
+          var requestDto = new VerificationRequestDto(signature, serializedData.asJson());
+          var verifyResponseDto = bulkheadRegistry.execute(Dependency.DSO,
+              () -> digitalSignatureRestClient.verifyOfficer(requestDto));
 
-    if (!verifyResponseDto.isValid()) {
-      log.error("Officer task form data hasn't passed the signature verification");
-      throw new SignatureValidationException(verifyResponseDto.getError());
-    }
+          if (!verifyResponseDto.isValid()) {
+            log.error("Officer task form data hasn't passed the signature verification");
+            throw new SignatureValidationException(verifyResponseDto.getError());
+          }
+        });
     log.debug("Officer signed form data verified.");
   }
 
   @Override
   public void verifyCitizenFormData(@NonNull Set<Subject> signatureValidationPack,
-      @NonNull FormDataDto formData) {
+      @NonNull FormDataDto formData, @NonNull SerializedFormData serializedData,
+      @NonNull String userName) {
     log.debug("Verifying citizen signed form data.");
 
     var allowedSubjects = getAllowedSubjects(signatureValidationPack);
     var signature = formData.getSignature();
-    var data = serializeFormData(formData.getData());
-    var requestDto = new VerifySubjectRequestDto(allowedSubjects, signature, data);
 
-    var verifyResponseDto = digitalSignatureRestClient.verifyCitizen(requestDto);
+    signatureVerificationCache.verify(CITIZEN_VERIFICATION, userName, allowedSubjects,
+        signature, serializedData.getDigest(), () -> {
+          var requestDto = new VerifySubjectRequestDto(allowedSubjects, signature,
+              serializedData.asJson());
+          var verifyResponseDto = bulkheadRegistry.execute(Dependency.DSO,
+              () -> digitalSignatureRestClient.verifyCitizen(requestDto));
 
-    if (!verifyResponseDto.isValid()) {
-      log.error("Citizen task form data hasn't passed the signature verification");
-      throw new SignatureValidationException(verifyResponseDto.getError());
-    }
+          if (!verifyResponseDto.isValid()) {
+            log.error("Citizen task form data hasn't passed the signature verification");
+            throw new SignatureValidationException(verifyResponseDto.getError());
+          }
+        });
     log.debug("Citizen signed form data verified.");
   }
 
-  private <T> String serializeFormData(T formData) {
-    try {
-      return objectMapper.writeValueAsString(formData);
-    } catch (JsonProcessingException e) {
-      e.clearLocation();
-      throw new IllegalArgumentException("Couldn't serialize form data", e);
-    }
-  }
-
   private List<Subject> getAllowedSubjects(Set<Subject> signatureValidationPack) {
     return signatureValidationPack.isEmpty()
         ? List.of(Subject.INDIVIDUAL)
@@ -18,11 +18,15 @@ package com.epam.digital.data.platform.usrtaskmgt.remote.impl;
 
 import com.epam.digital.data.platform.bpms.api.dto.DdmClaimTaskQueryDto;
 import com.epam.digital.data.platform.bpms.api.dto.DdmCompleteTaskDto;
+import com.epam.digital.data.platform.bpms.api.dto.DdmCompletedTaskDto;
 import com.epam.digital.data.platform.bpms.api.dto.DdmTaskCountQueryDto;
 import com.epam.digital.data.platform.bpms.api.dto.DdmTaskQueryDto;
 import com.epam.digital.data.platform.bpms.api.dto.PaginationQueryDto;
 import com.epam.digital.data.platform.bpms.api.dto.SortingDto;
 import com.epam.digital.data.platform.bpms.client.TaskRestClient;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry.Dependency;
+import com.epam.digital.data.platform.usrtaskmgt.cache.TaskSnapshotCache;
 import com.epam.digital.data.platform.usrtaskmgt.mapper.UserTaskDtoMapper;
 import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.CompletedTaskResponse;
@@ -31,7 +35,11 @@ import com.epam.digital.data.platform.usrtaskmgt.model.response.SignableDataUser
 import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
 import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import com.epam.digital.data.platform.usrtaskmgt.remote.support.RequestCoalescer;
+import com.epam.digital.data.platform.usrtaskmgt.remote.support.RequestHedger;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
@@ -43,8 +51,17 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserTaskRemoteServiceImpl implements UserTaskRemoteService {
 
+  private static final String GET_TASKS_OPERATION = "get-tasks";
+  private static final String GET_LIGHTWEIGHT_TASKS_OPERATION = "get-lightweight-tasks";
+  private static final String COUNT_TASKS_OPERATION = "count-tasks";
+  private static final String GET_TASK_BY_ID_OPERATION = "get-task-by-id";
+
   private final TaskRestClient taskRestClient;
   private final UserTaskDtoMapper userTaskDtoMapper;
+  private final RequestCoalescer requestCoalescer;
+  private final TaskSnapshotCache taskSnapshotCache;
+  private final BulkheadRegistry bulkheadRegistry;
+  private final RequestHedger requestHedger;
 
   @Override
   @NonNull
@@ -60,7 +77,8 @@ public class UserTaskRemoteServiceImpl implements UserTaskRemoteService {
         .maxResults(page.getMaxResults())
         .build();
 
-    var dtos = taskRestClient.getTasksByParams(taskQueryDto, paginationQueryDto);
+    var dtos = read(GET_TASKS_OPERATION, Arrays.asList(processInstanceId, assignee, page),
+        () -> taskRestClient.getTasksByParams(taskQueryDto, paginationQueryDto));
 
     log.debug("{} user tasks were found", dtos.size());
     return userTaskDtoMapper.toUserTaskDtoList(dtos);
@@ -80,7 +98,9 @@ public class UserTaskRemoteServiceImpl implements UserTaskRemoteService {
         .maxResults(page.getMaxResults())
         .build();
 
-    var dtos = taskRestClient.getLightweightTasksByParams(taskQueryDto, paginationQueryDto);
+    var dtos = read(GET_LIGHTWEIGHT_TASKS_OPERATION,
+        Arrays.asList(rootProcessInstanceId, assignee, page),
+        () -> taskRestClient.getLightweightTasksByParams(taskQueryDto, paginationQueryDto));
 
     log.debug("{} user tasks were found", dtos.size());
     return userTaskDtoMapper.toUserTaskLightweightResponse(dtos);
@@ -98,7 +118,8 @@ public class UserTaskRemoteServiceImpl implements UserTaskRemoteService {
     var taskCountQueryDto = DdmTaskCountQueryDto.builder()
         .orQueries(List.of(unassignedCountTaskQuery))
         .build();
-    var dto = taskRestClient.getTaskCountByParams(taskCountQueryDto);
+    var dto = read(COUNT_TASKS_OPERATION, List.of(assignee),
+        () -> taskRestClient.getTaskCountByParams(taskCountQueryDto));
 
     log.debug("Found {} user tasks", dto.getCount());
     return userTaskDtoMapper.toCountResponse(dto);
@@ -106,13 +127,23 @@ public class UserTaskRemoteServiceImpl implements UserTaskRemoteService {
 
   @Override
   @NonNull
-  public SignableDataUserTaskResponse getUserTaskById(@NonNull String taskId) {
+  public SignableDataUserTaskResponse getUserTaskById(@NonNull String taskId,
+      @NonNull String userName) {
     log.debug("Selecting user task by id {}", taskId);
 
-    var taskDto = taskRestClient.getTaskById(taskId);
+    var snapshot = taskSnapshotCache.get(taskId, userName);
+    if (snapshot.isPresent()) {
+      log.debug("User task by id {} selected from cache", taskId);
+      return userTaskDtoMapper.copySignableDataUserTaskDto(snapshot.get());
+    }
+
+    var stamp = taskSnapshotCache.stamp();
+    var taskDto = read(GET_TASK_BY_ID_OPERATION, List.of(taskId, userName),
+        () -> taskRestClient.getTaskById(taskId));
     log.trace("User task {} was found - {}", taskId, taskDto);
 
     var userTask = userTaskDtoMapper.toSignableDataUserTaskDto(taskDto);
+    taskSnapshotCache.put(taskId, userTaskDtoMapper.copySignableDataUserTaskDto(userTask), stamp);
 
     log.debug("User task by id {} selected. {}", taskId, userTask);
     return userTask;
@@ -125,7 +156,12 @@ public class UserTaskRemoteServiceImpl implements UserTaskRemoteService {
     var claimTaskDto = DdmClaimTaskQueryDto.builder()
         .userId(userName)
         .build();
-    taskRestClient.claimTaskById(taskId, claimTaskDto);
+    try {
+      bulkheadRegistry.execute(Dependency.BPMS_WRITE,
+          () -> taskRestClient.claimTaskById(taskId, claimTaskDto));
+    } finally {
+      taskSnapshotCache.evict(taskId);
+    }
 
     log.debug("Task with id {} was claimed by {}", taskId, userName);
   }
@@ -134,12 +170,28 @@ public class UserTaskRemoteServiceImpl implements UserTaskRemoteService {
   public CompletedTaskResponse completeTaskById(@NonNull String taskId) {
     log.debug("Completing task with id {}", taskId);
 
-    var result = taskRestClient.completeTaskById(taskId, DdmCompleteTaskDto.builder().build());
+    DdmCompletedTaskDto result;
+    try {
+      result = bulkheadRegistry.execute(Dependency.BPMS_WRITE,
+          () -> taskRestClient.completeTaskById(taskId, DdmCompleteTaskDto.builder().build()));
+    } finally {
+      taskSnapshotCache.evict(taskId);
+    }
 
     log.debug("Task with id {} was completed", taskId);
     return userTaskDtoMapper.toCompletedTaskResponse(result);
   }
 
+  /**
+   * Executes idempotent read: identical in-flight reads are coalesced, slow reads are hedged. The
+   * first attempt runs in the business process management read bulkhead, while hedges are bounded
+   * by the hedger and never take read bulkhead permits. Writes must never be executed this way.
+   */
+  private <T> T read(String operation, List<?> key, Supplier<T> call) {
+    return requestCoalescer.execute(operation, key, () -> requestHedger.execute(operation,
+        () -> bulkheadRegistry.execute(Dependency.BPMS_READ, call), call));
+  }
+
   private DdmTaskQueryDto buildDdmTaskQueryDto(String assignee, Pageable page) {
     var unassignedTaskQuery = DdmTaskQueryDto.builder()
         .unassigned(true)
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.remote.support;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.HttpClientProperties.Downstream;
+import com.epam.digital.data.platform.usrtaskmgt.deadline.Deadline;
+import com.epam.digital.data.platform.usrtaskmgt.exception.DeadlineExceededException;
+import com.epam.digital.data.platform.usrtaskmgt.limiter.DownstreamOverload;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Feign transport of a single downstream service. Applies the downstream connect and read
+ * timeouts (if they are configured) on top of Feign client options and shrinks them to the time
+ * remaining until the {@link Deadline deadline} of the current request. Timeouts within the
+ * downstream's own timeouts and overload responses ({@code 503}, {@code 504}) are reported as
+ * {@link DownstreamOverload downstream overload}.
+ */
+public class DownstreamHttpClient implements Client, Closeable {
+
+  @Getter
+  private final String name;
+  @Getter
+  private final String baseUrl;
+  private final Downstream settings;
+  private final Client delegate;
+  private final Closeable resources;
+
+  /**
+   * @param name      downstream name used in logs and metrics
+   * @param baseUrl   base url of the downstream service (nullable for the fallback transport)
+   * @param settings  downstream settings
+   * @param delegate  transport itself
+   * @param resources resources that have to be released on shutdown (e.g. connection pool)
+   */
+  public DownstreamHttpClient(String name, String baseUrl, Downstream settings, Client delegate,
+      Closeable resources) {
+    this.name = name;
+    this.baseUrl = baseUrl;
+    this.settings = settings;
+    this.delegate = delegate;
+    this.resources = resources;
+  }
+
+  @Override
+  public Response execute(Request request, Options options) throws IOException {
+    var downstreamOptions = withDownstreamTimeouts(options);
+    var deadline = Deadline.current();
+    if (Objects.isNull(deadline)) {
+      return signalOverload(executeOrSignalTimeout(request, downstreamOptions));
+    }
+
+    var remainingMillis = deadline.remaining().toMillis();
+    if (remainingMillis <= 0) {
+      throw new DeadlineExceededException(name + " call");
+    }
+    var budgetOptions = withRemainingBudget(downstreamOptions, remainingMillis);
+    if (budgetOptions == downstreamOptions) {
+      return signalOverload(executeOrSignalTimeout(request, budgetOptions));
+    }
+    // the timeouts are shrunk to the client time budget, so a timeout isn't a downstream overload
+    try {
+      return signalOverload(delegate.execute(request, budgetOptions));
+    } catch (SocketTimeoutException ex) {
+      if (deadline.isExpired()) {
+        throw new DeadlineExceededException(name + " call", ex);
+      }
+      throw ex;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    resources.close();
+  }
+
+  private Response executeOrSignalTimeout(Request request, Options options) throws IOException {
+    try {
+      return delegate.execute(request, options);
+    } catch (SocketTimeoutException ex) {
+      DownstreamOverload.signal();
+      throw ex;
+    }
+  }
+
+  private static Response signalOverload(Response response) {
+    if (response.status() == HttpStatus.SERVICE_UNAVAILABLE.value()
+        || response.status() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+      DownstreamOverload.signal();
+    }
+    return response;
+  }
+
+  private Options withDownstreamTimeouts(Options options) {
+    if (Objects.isNull(settings.getConnectTimeout()) && Objects.isNull(settings.getReadTimeout())) {
+      return options;
+    }
+    var connectTimeoutMillis = toMillis(settings.getConnectTimeout(),
+        options.connectTimeoutMillis());
+    var readTimeoutMillis = toMillis(settings.getReadTimeout(), options.readTimeoutMillis());
+    return new Options(connectTimeoutMillis, TimeUnit.MILLISECONDS, readTimeoutMillis,
+        TimeUnit.MILLISECONDS, options.isFollowRedirects());
+  }
+
+  private static Options withRemainingBudget(Options options, long remainingMillis) {
+    if (options.connectTimeoutMillis() <= remainingMillis
+        && options.readTimeoutMillis() <= remainingMillis) {
+      return options;
+    }
+    return new Options(Math.min(options.connectTimeoutMillis(), remainingMillis),
+        TimeUnit.MILLISECONDS, Math.min(options.readTimeoutMillis(), remainingMillis),
+        TimeUnit.MILLISECONDS, options.isFollowRedirects());
+  }
+
+  private static long toMillis(Duration timeout, int defaultMillis) {
+    return Objects.isNull(timeout) ? defaultMillis : timeout.toMillis();
+  }
+}
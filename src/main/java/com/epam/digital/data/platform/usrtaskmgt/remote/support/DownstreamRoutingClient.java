@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.remote.support;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Feign transport shared by all Feign clients that routes every request to the
+ * {@link DownstreamHttpClient transport of the downstream service} by the request url, so every
+ * downstream has its own connection pool and timeouts. Requests to unknown services are routed to
+ * the fallback transport.
+ */
+@Slf4j
+public class DownstreamRoutingClient implements Client, Closeable {
+
+  private final List<DownstreamHttpClient> downstreams;
+  private final DownstreamHttpClient fallback;
+
+  public DownstreamRoutingClient(List<DownstreamHttpClient> downstreams,
+      DownstreamHttpClient fallback) {
+    this.downstreams = downstreams;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public Response execute(Request request, Options options) throws IOException {
+    return route(request.url()).execute(request, options);
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (var downstream : downstreams) {
+      closeQuietly(downstream);
+    }
+    closeQuietly(fallback);
+  }
+
+  DownstreamHttpClient route(String url) {
+    for (var downstream : downstreams) {
+      if (isUnderBaseUrl(url, downstream.getBaseUrl())) {
+        return downstream;
+      }
+    }
+    return fallback;
+  }
+
+  /**
+   * The url must continue the base url with a path, query or fragment, so e.g. the url of
+   * {@code http://bpms-admin} service isn't routed to {@code http://bpms} service.
+   */
+  private static boolean isUnderBaseUrl(String url, String baseUrl) {
+    var prefix = StringUtils.removeEnd(baseUrl, "/");
+    if (StringUtils.isEmpty(prefix) || !StringUtils.startsWith(url, prefix)) {
+      return false;
+    }
+    return url.length() == prefix.length() || "/?#".indexOf(url.charAt(prefix.length())) >= 0;
+  }
+
+  private static void closeQuietly(DownstreamHttpClient downstream) {
+    try {
+      downstream.close();
+    } catch (IOException ex) {
+      log.warn("Couldn't close {} http client", downstream.getName(), ex);
+    }
+  }
+}
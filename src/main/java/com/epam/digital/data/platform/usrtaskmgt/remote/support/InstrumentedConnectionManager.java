@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.remote.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/**
+ * Pooling connection manager that records the time spent waiting for a pooled connection to the
+ * {@value #ACQUISITION_TIMER_NAME} timer tagged by {@code downstream} and {@code outcome}
+ * ({@code acquired}, {@code timeout} or {@code error}).
+ */
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+  public static final String ACQUISITION_TIMER_NAME = "usertask.http.client.connection.acquisition";
+
+  private final String downstream;
+  private final MeterRegistry meterRegistry;
+
+  public InstrumentedConnectionManager(String downstream, MeterRegistry meterRegistry) {
+    this.downstream = downstream;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+    var connectionRequest = super.requestConnection(route, state);
+    return new ConnectionRequest() {
+      @Override
+      public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+          throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+        var sample = Timer.start(meterRegistry);
+        try {
+          var connection = connectionRequest.get(timeout, timeUnit);
+          sample.stop(acquisitionTimer("acquired"));
+          return connection;
+        } catch (ConnectionPoolTimeoutException ex) {
+          sample.stop(acquisitionTimer("timeout"));
+          throw ex;
+        } catch (InterruptedException | ExecutionException | RuntimeException ex) {
+          sample.stop(acquisitionTimer("error"));
+          throw ex;
+        }
+      }
+
+      @Override
+      public boolean cancel() {
+        return connectionRequest.cancel();
+      }
+    };
+  }
+
+  private Timer acquisitionTimer(String outcome) {
+    return Timer.builder(ACQUISITION_TIMER_NAME)
+        .description("Time spent waiting for a pooled HTTP connection")
+        .tag("downstream", downstream)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.remote.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight coalescing of identical in-flight remote read calls. While a call with some key is
+ * executing, every other caller with the same key waits for it and receives the same result (or
+ * the same exception) instead of issuing its own downstream request. The result is shared only
+ * while the call is in flight, so no stale data is ever returned.
+ * <p>
+ * Exports {@value #CALLS_COUNTER_NAME} counter tagged by {@code operation} and {@code role}
+ * ({@code leader} for executed calls, {@code follower} for coalesced ones) and
+ * {@value #IN_FLIGHT_GAUGE_NAME} gauge.
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+  public static final String CALLS_COUNTER_NAME = "usertask.remote.coalescing.calls";
+  public static final String IN_FLIGHT_GAUGE_NAME = "usertask.remote.coalescing.in.flight";
+
+  private final ConcurrentMap<List<Object>, CompletableFuture<Object>> inFlightCalls =
+      new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+
+  public RequestCoalescer(MeterRegistry meterRegistry,
+      @Value("${user-task-management.remote.coalescing.enabled:true}") boolean enabled) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    Gauge.builder(IN_FLIGHT_GAUGE_NAME, inFlightCalls, ConcurrentMap::size)
+        .description("Number of remote calls that can be joined by identical calls")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Executes the call or joins the identical call that is already in flight
+   *
+   * @param operation name of the remote operation
+   * @param key       call arguments that identify identical calls (nullable elements allowed)
+   * @param call      remote call itself
+   * @param <T>       type of the call result
+   * @return the result of the call
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String operation, List<?> key, Supplier<T> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    var callKey = new ArrayList<Object>(key.size() + 1);
+    callKey.add(operation);
+    callKey.addAll(key);
+
+    var future = new CompletableFuture<Object>();
+    var inFlightCall = inFlightCalls.putIfAbsent(callKey, future);
+    if (Objects.nonNull(inFlightCall)) {
+      log.debug("Joining in-flight {} call", operation);
+      counter(operation, "follower").increment();
+      return (T) join(inFlightCall);
+    }
+
+    counter(operation, "leader").increment();
+    try {
+      var result = call.get();
+      future.complete(result);
+      return result;
+    } catch (RuntimeException | Error ex) {
+      future.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlightCalls.remove(callKey, future);
+    }
+  }
+
+  private Object join(CompletableFuture<Object> inFlightCall) {
+    try {
+      return inFlightCall.join();
+    } catch (CompletionException ex) {
+      var cause = ex.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw ex;
+    }
+  }
+
+  private Counter counter(String operation, String role) {
+    return Counter.builder(CALLS_COUNTER_NAME)
+        .description("Number of remote read calls by coalescing role")
+        .tag("operation", operation)
+        .tag("role", role)
+        .register(meterRegistry);
+  }
+}
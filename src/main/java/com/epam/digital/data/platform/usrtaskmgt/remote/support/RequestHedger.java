@@ -0,0 +1,326 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.remote.support;
+
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.config.RequestHedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedges idempotent remote reads: if the first attempt of the call hasn't completed within the
+ * dynamic latency percentile of the operation, the second attempt is sent and the first
+ * successful response wins. The loser is cancelled (its thread is interrupted and its result is
+ * discarded).
+ * <p>
+ * Extra load is capped by the hedge budget: every call earns a part of a hedge token and every
+ * hedge spends the whole token. A losing attempt can't be interrupted out of its socket read, so
+ * hedges also have their own bound of in-flight calls instead of sharing the permits of the first
+ * attempts. Hedging of an operation starts only after enough latencies of it are observed, until
+ * then the call runs on the caller thread. Must never be used for non-idempotent calls.
+ * <p>
+ * Exports {@value #HEDGES_COUNTER_NAME} counter tagged by {@code operation} and {@code outcome}
+ * ({@code won} if the hedge responded first, {@code lost} otherwise, {@code skipped} if there was
+ * no budget, hedge permit or free executor thread) and {@value #THRESHOLD_GAUGE_NAME} gauge tagged by
+ * {@code operation}.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+  public static final String HEDGES_COUNTER_NAME = "usertask.remote.hedging.hedges";
+  public static final String THRESHOLD_GAUGE_NAME = "usertask.remote.hedging.threshold";
+
+  private final RequestHedgingProperties properties;
+  private final ContextAwareExecutor readHedgingExecutor;
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+  private final Semaphore hedgePermits;
+  private double budgetTokens;
+
+  public RequestHedger(RequestHedgingProperties properties,
+      @Qualifier("readHedgingExecutor") ContextAwareExecutor readHedgingExecutor,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.readHedgingExecutor = readHedgingExecutor;
+    this.meterRegistry = meterRegistry;
+    this.hedgePermits = new Semaphore(properties.getMaxHedgesInFlight());
+  }
+
+  /**
+   * Executing the idempotent call with hedging, the hedge is the same call
+   *
+   * @param operation operation name used for latency tracking and metrics
+   * @param call      the remote call itself
+   * @param <T>       type of the call result
+   * @return the result of the first successful attempt
+   */
+  public <T> T execute(String operation, Supplier<T> call) {
+    return execute(operation, call, call);
+  }
+
+  /**
+   * Executing the idempotent call with hedging
+   *
+   * @param operation operation name used for latency tracking and metrics
+   * @param call      the first attempt of the remote call (e.g. the call in the read bulkhead)
+   * @param hedgeCall the hedge of the remote call
+   * @param <T>       type of the call result
+   * @return the result of the first successful attempt
+   */
+  public <T> T execute(String operation, Supplier<T> call, Supplier<T> hedgeCall) {
+    if (!properties.isEnabled()) {
+      return call.get();
+    }
+    var latencyWindow = latencyWindows.computeIfAbsent(operation, this::latencyWindow);
+    earnBudget();
+
+    var thresholdNanos = latencyWindow.getThresholdNanos();
+    if (thresholdNanos < 0) {
+      return measure(call, latencyWindow);
+    }
+    var primary = Attempt.start(readHedgingExecutor, call, latencyWindow);
+    if (primary == null) {
+      log.debug("No free thread for {} call, the call is executed without hedging", operation);
+      return measure(call, latencyWindow);
+    }
+    try {
+      return unwrap(() -> primary.getFuture().get(thresholdNanos, TimeUnit.NANOSECONDS));
+    } catch (TimeoutException ex) {
+      log.debug("{} call has exceeded hedging threshold {} ns", operation, thresholdNanos);
+    }
+
+    var hedge = startHedge(hedgeCall, latencyWindow);
+    if (hedge == null) {
+      hedgesCounter(operation, "skipped").increment();
+      return await(primary);
+    }
+    var winner = new CompletableFuture<Attempt<T>>();
+    var failures = new AtomicInteger();
+    for (var attempt : Arrays.asList(primary, hedge)) {
+      attempt.getFuture().whenComplete((result, ex) -> {
+        if (ex == null) {
+          winner.complete(attempt);
+        } else if (failures.incrementAndGet() == 2) {
+          winner.complete(primary);
+        }
+      });
+    }
+    var winningAttempt = ContextAwareExecutor.join(winner);
+    primary.cancel();
+    hedge.cancel();
+    hedgesCounter(operation, winningAttempt == hedge ? "won" : "lost").increment();
+    return await(winningAttempt);
+  }
+
+  private <T> Attempt<T> startHedge(Supplier<T> hedgeCall, LatencyWindow latencyWindow) {
+    if (!hedgePermits.tryAcquire()) {
+      return null;
+    }
+    var hedge = spendBudget() ? Attempt.start(readHedgingExecutor, hedgeCall, latencyWindow) : null;
+    if (hedge == null) {
+      hedgePermits.release();
+      return null;
+    }
+    // the permit is held until the hedge really ends, even if it has lost and been cancelled
+    hedge.getFuture().whenComplete((result, ex) -> hedgePermits.release());
+    return hedge;
+  }
+
+  private synchronized void earnBudget() {
+    budgetTokens = Math.min(properties.getMaxBudget(), budgetTokens + properties.getBudgetRatio());
+  }
+
+  private synchronized boolean spendBudget() {
+    if (budgetTokens < 1) {
+      return false;
+    }
+    budgetTokens--;
+    return true;
+  }
+
+  private LatencyWindow latencyWindow(String operation) {
+    var latencyWindow = new LatencyWindow(properties);
+    Gauge.builder(THRESHOLD_GAUGE_NAME, latencyWindow,
+            window -> Math.max(0, window.getThresholdNanos()) / 1e9)
+        .description("Latency after which the remote read is hedged")
+        .tag("operation", operation)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    return latencyWindow;
+  }
+
+  private Counter hedgesCounter(String operation, String outcome) {
+    return Counter.builder(HEDGES_COUNTER_NAME)
+        .description("Number of hedged remote reads by outcome")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static <T> T measure(Supplier<T> call, LatencyWindow latencyWindow) {
+    var startNanos = System.nanoTime();
+    var result = call.get();
+    latencyWindow.record(System.nanoTime() - startNanos);
+    return result;
+  }
+
+  private static <T> T await(Attempt<T> attempt) {
+    try {
+      return unwrap(() -> attempt.getFuture().get());
+    } catch (TimeoutException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static <T> T unwrap(FutureGetter<T> getter) throws TimeoutException {
+    try {
+      return getter.get();
+    } catch (ExecutionException ex) {
+      var cause = ex.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for remote call", ex);
+    }
+  }
+
+  @FunctionalInterface
+  private interface FutureGetter<T> {
+
+    T get() throws ExecutionException, InterruptedException, TimeoutException;
+  }
+
+  /**
+   * Single attempt of the call that can be cancelled with interruption of its thread
+   */
+  private static final class Attempt<T> {
+
+    private CompletableFuture<T> future;
+    private Thread thread;
+    private boolean cancelled;
+
+    static <T> Attempt<T> start(ContextAwareExecutor executor, Supplier<T> call,
+        LatencyWindow latencyWindow) {
+      var attempt = new Attempt<T>();
+      try {
+        attempt.future = executor.supplyAsync(() -> attempt.run(call, latencyWindow));
+      } catch (RejectedExecutionException ex) {
+        return null;
+      }
+      return attempt;
+    }
+
+    CompletableFuture<T> getFuture() {
+      return future;
+    }
+
+    T run(Supplier<T> call, LatencyWindow latencyWindow) {
+      if (!enter()) {
+        throw new CancellationException();
+      }
+      try {
+        return measure(call, latencyWindow);
+      } finally {
+        exit();
+      }
+    }
+
+    synchronized void cancel() {
+      cancelled = true;
+      if (thread != null) {
+        thread.interrupt();
+      }
+    }
+
+    private synchronized boolean enter() {
+      if (cancelled) {
+        return false;
+      }
+      thread = Thread.currentThread();
+      return true;
+    }
+
+    private synchronized void exit() {
+      thread = null;
+      if (cancelled) {
+        // the interruption must not leak to the next task of the pool thread
+        Thread.interrupted();
+      }
+    }
+  }
+
+  /**
+   * The latest latencies of the operation with the periodically recalculated hedging threshold
+   */
+  private static final class LatencyWindow {
+
+    private final RequestHedgingProperties properties;
+    private final long[] samples;
+    private final int recalculationInterval;
+    private int next;
+    private int count;
+    private int sinceRecalculation;
+    private volatile long thresholdNanos = -1;
+
+    LatencyWindow(RequestHedgingProperties properties) {
+      this.properties = properties;
+      this.samples = new long[properties.getWindowSize()];
+      this.recalculationInterval = Math.max(1, properties.getWindowSize() / 10);
+    }
+
+    long getThresholdNanos() {
+      return thresholdNanos;
+    }
+
+    synchronized void record(long latencyNanos) {
+      samples[next] = latencyNanos;
+      next = (next + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+      sinceRecalculation++;
+      if (count >= properties.getMinSamples() && sinceRecalculation >= recalculationInterval) {
+        sinceRecalculation = 0;
+        var sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        var index = Math.min(count - 1, (int) Math.ceil(properties.getPercentile() * count) - 1);
+        thresholdNanos = Math.max(properties.getMinDelay().toNanos(), sorted[Math.max(0, index)]);
+      }
+    }
+  }
+}
@@ -24,30 +24,69 @@ import com.epam.digital.data.platform.starter.validation.service.FormValidationS
 import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
 import com.epam.digital.data.platform.storage.form.exception.FormDataRepositoryCommunicationException;
 import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry.Dependency;
+import com.epam.digital.data.platform.usrtaskmgt.cache.FormValidationResultCache;
+import com.epam.digital.data.platform.usrtaskmgt.cache.TaskCountCache;
+import com.epam.digital.data.platform.usrtaskmgt.config.BatchProperties;
+import com.epam.digital.data.platform.usrtaskmgt.config.FormValidationCacheProperties;
+import com.epam.digital.data.platform.usrtaskmgt.deadline.Deadline;
+import com.epam.digital.data.platform.usrtaskmgt.exception.BatchSizeExceededException;
+import com.epam.digital.data.platform.usrtaskmgt.exception.DeadlineExceededException;
+import com.epam.digital.data.platform.usrtaskmgt.exception.InvalidCursorException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskAlreadyAssignedException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskAuthorizationException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskNotExistsException;
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskNotExistsOrCompletedException;
+import com.epam.digital.data.platform.usrtaskmgt.export.NdjsonTaskExporter;
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import com.epam.digital.data.platform.usrtaskmgt.form.FormDataSerializer;
+import com.epam.digital.data.platform.usrtaskmgt.form.SerializedFormData;
+import com.epam.digital.data.platform.usrtaskmgt.index.UserTaskIndex;
+import com.epam.digital.data.platform.usrtaskmgt.longpoll.TaskWaitRegistry;
+import com.epam.digital.data.platform.usrtaskmgt.metrics.TaskCompletionMetrics;
+import com.epam.digital.data.platform.usrtaskmgt.metrics.TaskCompletionMetrics.Endpoint;
+import com.epam.digital.data.platform.usrtaskmgt.metrics.TaskCompletionMetrics.Stage;
 import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.ClaimTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.ClaimTaskResponse.ClaimStatus;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.CompletedTaskResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CursorPage;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.InboxResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.SignableDataUserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.TaskBatchItemResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.TaskBatchItemResponse.TaskBatchItemStatus;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.pagination.CursorPaginator;
 import com.epam.digital.data.platform.usrtaskmgt.remote.DigitalSignatureRemoteService;
 import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import com.epam.digital.data.platform.usrtaskmgt.stream.TaskStreamRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Represents a service that contains methods for working with a user tasks.
@@ -55,13 +94,31 @@ import org.springframework.stereotype.Service;
  * Implements such business functions:
  * <li>{@link UserTaskManagementService#getTasks(String, Pageable, Authentication) get tasks for
  * process instance}</li>
+ * <li>{@link UserTaskManagementService#getTaskPage(String, Pageable, Authentication) get task
+ * page by cursor for process instance}</li>
+ * <li>{@link UserTaskManagementService#exportTasks(String, Pageable, FieldSelection,
+ * Authentication) stream tasks for process instance}</li>
  * <li>{@link UserTaskManagementService#countTasks(Authentication) count all user tasks}</li>
+ * <li>{@link UserTaskManagementService#waitForLightweightTasks(String, Pageable, Duration,
+ * Authentication) wait for lightweight tasks for current user}</li>
+ * <li>{@link UserTaskManagementService#getInbox(String, Pageable, Authentication) get tasks for
+ * current user together with task count}</li>
+ * <li>{@link UserTaskManagementService#getLightweightInbox(String, Pageable, Authentication) get
+ * lightweight tasks for current user together with task count}</li>
+ * <li>{@link UserTaskManagementService#subscribeToTaskChanges(Authentication) stream task count
+ * and task list changes for current user}</li>
  * <li>{@link UserTaskManagementService#claimTaskById(String, Authentication) claim user task by
  * current user}</li>
+ * <li>{@link UserTaskManagementService#claimTasks(List, Authentication) claim several user tasks
+ * by current user}</li>
  * <li>{@link UserTaskManagementService#getTaskById(String, Authentication) get one task by
  * id}</li>
+ * <li>{@link UserTaskManagementService#getTasksByIds(List, FieldSelection, Authentication) get
+ * several tasks by ids}</li>
  * <li>{@link UserTaskManagementService#completeTaskById(String, FormDataDto, Authentication)
  * complete non signable task}</li>
+ * <li>{@link UserTaskManagementService#attachNextTask(CompletedTaskResponse, Authentication)
+ * get next task of the completed task process}</li>
  * <li>{@link UserTaskManagementService#signOfficerForm(String, FormDataDto, Authentication)
  * complete signable task with officer signature validation}</li>
  * <li>{@link UserTaskManagementService#signCitizenForm(String, FormDataDto, Authentication)
@@ -73,11 +130,32 @@ import org.springframework.stereotype.Service;
 public class UserTaskManagementService {
 
   private static final LinkedHashMap<String, Object> EMPTY_FORM_DATA = new LinkedHashMap<>();
+  private static final String DATA_FIELD = "data";
 
   private final UserTaskRemoteService userTaskRemoteService;
   private final DigitalSignatureRemoteService digitalSignatureRemoteService;
   private final FormDataStorageService<?> formDataStorageService;
   private final FormValidationService formValidationService;
+  private final TaskCompletionMetrics taskCompletionMetrics;
+  @Qualifier("formProcessingExecutor")
+  private final ContextAwareExecutor formProcessingExecutor;
+  private final FormDataSerializer formDataSerializer;
+  private final FormValidationResultCache formValidationResultCache;
+  private final FormValidationCacheProperties formValidationCacheProperties;
+  private final BulkheadRegistry bulkheadRegistry;
+  @Qualifier("batchProcessingExecutor")
+  private final ContextAwareExecutor batchProcessingExecutor;
+  private final BatchProperties batchProperties;
+  @Qualifier("readFanOutExecutor")
+  private final ContextAwareExecutor readFanOutExecutor;
+  private final TaskWaitRegistry taskWaitRegistry;
+  private final TaskStreamRegistry taskStreamRegistry;
+  private final UserTaskIndex userTaskIndex;
+  private final TaskCountCache taskCountCache;
+  private final CursorPaginator cursorPaginator;
+  private final NdjsonTaskExporter ndjsonTaskExporter;
+  @Qualifier("speculativeValidationExecutor")
+  private final ContextAwareExecutor speculativeValidationExecutor;
 
   /**
    * Getting list of user task entities of particular process instance (if process instance isn't
@@ -95,8 +173,10 @@ public class UserTaskManagementService {
     log.info("Getting unfinished user tasks for process instance {}. Parameters: {}",
         processInstanceId, page);
 
-    var tasks = userTaskRemoteService.getUserTasks(processInstanceId, authentication.getName(),
-        page);
+    var tasks = userTaskIndex.getTasks(authentication.getName(), getAuthorities(authentication),
+            processInstanceId, page)
+        .orElseGet(() -> userTaskRemoteService.getUserTasks(processInstanceId,
+            authentication.getName(), page));
     log.trace("Found user tasks - {}", tasks);
 
     log.info("Found {} user tasks", tasks.size());
@@ -121,14 +201,106 @@ public class UserTaskManagementService {
     log.info("Getting unfinished lightweight user tasks for root process instance {}. "
         + "Parameters: {}", rootProcessInstanceId, page);
 
-    var tasks = userTaskRemoteService.getLightweightUserTasks(rootProcessInstanceId,
-        authentication.getName(), page);
+    var tasks = userTaskIndex.getLightweightTasks(authentication.getName(),
+            getAuthorities(authentication), rootProcessInstanceId, page)
+        .orElseGet(() -> userTaskRemoteService.getLightweightUserTasks(rootProcessInstanceId,
+            authentication.getName(), page));
     log.trace("Found lightweight user tasks - {}", tasks);
 
     log.info("Found {} user tasks", tasks.size());
     return tasks;
   }
 
+  /**
+   * Getting the page of user tasks of particular process instance together with the cursor of the
+   * next page. The page is requested by the cursor if it's present, or by the offset otherwise.
+   *
+   * @param processInstanceId process instance identifier (nullable)
+   * @param page              specifies the cursor or the index of the first result, the maximum
+   *                          number of results and result sorting criteria and order
+   * @param authentication    authentication object of current authenticated user
+   * @return the page of user tasks
+   * @throws InvalidCursorException if the cursor can't be decoded
+   * @see CursorPaginator
+   */
+  @NonNull
+  public CursorPage<UserTaskResponse> getTaskPage(@Nullable String processInstanceId,
+      @NonNull Pageable page, @NonNull Authentication authentication) {
+    return cursorPaginator.getPage(page,
+        pageByOffset -> getTasks(processInstanceId, pageByOffset, authentication),
+        UserTaskResponse::getId);
+  }
+
+  /**
+   * Exporting user tasks of particular process instance (if process instance isn't present then
+   * all user tasks) as a stream of newline delimited JSON. Tasks are requested from business
+   * process management and written page by page, so the result size doesn't affect memory usage.
+   *
+   * @param processInstanceId process instance identifier (nullable)
+   * @param page              specifies the index of the first result, the maximum number of
+   *                          results (all the tasks if absent) and result sorting criteria and
+   *                          order
+   * @param fields            fields of the task that are requested by the client
+   * @param authentication    authentication object of current authenticated user
+   * @return the response body that writes the tasks
+   * @see NdjsonTaskExporter
+   */
+  @NonNull
+  public StreamingResponseBody exportTasks(@Nullable String processInstanceId,
+      @NonNull Pageable page, @NonNull FieldSelection fields,
+      @NonNull Authentication authentication) {
+    log.info("Exporting unfinished user tasks for process instance {}. Parameters: {}",
+        processInstanceId, page);
+    return ndjsonTaskExporter.export(processInstanceId, authentication.getName(), page, fields);
+  }
+
+  /**
+   * Getting the page of lightweight user tasks of particular root process instance together with
+   * the cursor of the next page. The page is requested by the cursor if it's present, or by the
+   * offset otherwise.
+   *
+   * @param rootProcessInstanceId root process instance identifier (nullable)
+   * @param page                  specifies the cursor or the index of the first result, the
+   *                              maximum number of results and result sorting criteria and order
+   * @param authentication        authentication object of current authenticated user
+   * @return the page of user tasks
+   * @throws InvalidCursorException if the cursor can't be decoded
+   * @see CursorPaginator
+   */
+  @NonNull
+  public CursorPage<UserTaskLightweightResponse> getLightweightTaskPage(
+      @Nullable String rootProcessInstanceId, @NonNull Pageable page,
+      @NonNull Authentication authentication) {
+    return cursorPaginator.getPage(page,
+        pageByOffset -> getLightweightTasks(rootProcessInstanceId, pageByOffset, authentication),
+        UserTaskLightweightResponse::getId);
+  }
+
+  /**
+   * Waiting for lightweight user task entities of particular root process instance (if root
+   * process instance isn't present then for any user task). The request thread isn't blocked
+   * while waiting and requests that wait for the same tasks share one backed off poll of business
+   * process management.
+   *
+   * @param rootProcessInstanceId root process instance identifier (nullable)
+   * @param page                  specifies the index of the first result, the maximum number of
+   *                              results and result sorting criteria and order
+   * @param timeout               maximum time to wait for the tasks
+   * @param authentication        authentication object of current authenticated user
+   * @return future of the list of user tasks, the list is empty if no task appeared in time
+   * @see TaskWaitRegistry
+   */
+  @NonNull
+  public CompletableFuture<List<UserTaskLightweightResponse>> waitForLightweightTasks(
+      @Nullable String rootProcessInstanceId, @NonNull Pageable page, @NonNull Duration timeout,
+      @NonNull Authentication authentication) {
+    log.info("Waiting for unfinished lightweight user tasks for root process instance {} up to {}. "
+        + "Parameters: {}", rootProcessInstanceId, timeout, page);
+
+    return taskWaitRegistry.waitForLightweightTasks(rootProcessInstanceId,
+        authentication.getName(), page, timeout);
+  }
+
   /**
    * Getting the number of user tasks
    *
@@ -139,12 +311,67 @@ public class UserTaskManagementService {
   public CountResponse countTasks(@NonNull Authentication authentication) {
     log.info("Getting unfinished user task count");
 
-    var result = userTaskRemoteService.countUserTasks(authentication.getName());
+    var userName = authentication.getName();
+    var result = userTaskIndex.countTasks(userName, getAuthorities(authentication))
+        .orElseGet(() -> taskCountCache.get(userName,
+            () -> userTaskRemoteService.countUserTasks(userName)));
 
     log.info("Getting unfinished user task count finished - {}", result.getCount());
     return result;
   }
 
+  /**
+   * Getting the page of user tasks of particular process instance together with the number of all
+   * user tasks. The task page and the count are requested concurrently.
+   *
+   * @param processInstanceId process instance identifier (nullable)
+   * @param page              specifies the index of the first result, the maximum number of results
+   *                          and result sorting criteria and order
+   * @param authentication    authentication object of current authenticated user
+   * @return the page of user tasks and the task count
+   * @see UserTaskManagementService#getTasks(String, Pageable, Authentication)
+   * @see UserTaskManagementService#countTasks(Authentication)
+   */
+  @NonNull
+  public InboxResponse<UserTaskResponse> getInbox(@Nullable String processInstanceId,
+      @NonNull Pageable page, @NonNull Authentication authentication) {
+    return getInbox(() -> getTasks(processInstanceId, page, authentication), authentication);
+  }
+
+  /**
+   * Getting the page of lightweight user tasks of particular root process instance together with
+   * the number of all user tasks. The task page and the count are requested concurrently.
+   *
+   * @param rootProcessInstanceId root process instance identifier (nullable)
+   * @param page                  specifies the index of the first result, the maximum number of
+   *                              results and result sorting criteria and order
+   * @param authentication        authentication object of current authenticated user
+   * @return the page of lightweight user tasks and the task count
+   * @see UserTaskManagementService#getLightweightTasks(String, Pageable, Authentication)
+   * @see UserTaskManagementService#countTasks(Authentication)
+   */
+  @NonNull
+  public InboxResponse<UserTaskLightweightResponse> getLightweightInbox(
+      @Nullable String rootProcessInstanceId, @NonNull Pageable page,
+      @NonNull Authentication authentication) {
+    return getInbox(() -> getLightweightTasks(rootProcessInstanceId, page, authentication),
+        authentication);
+  }
+
+  /**
+   * Subscribing current user to the server-sent events stream of the task count and lightweight
+   * task list changes
+   *
+   * @param authentication authentication object of current authenticated user
+   * @return emitter of the stream connection
+   * @see TaskStreamRegistry
+   */
+  @NonNull
+  public SseEmitter subscribeToTaskChanges(@NonNull Authentication authentication) {
+    log.info("Subscribing to user task changes");
+    return taskStreamRegistry.subscribe(authentication.getName());
+  }
+
   /**
    * Claiming user task by id with current user
    *
@@ -157,7 +384,8 @@ public class UserTaskManagementService {
   public void claimTaskById(@NonNull String taskId, @NonNull Authentication authentication) {
     log.info("Claiming task with id {}", taskId);
 
-    var userTask = getUserTaskOrThrowTaskNotExistsOrCompletedException(taskId);
+    var userTask = getUserTaskOrThrowTaskNotExistsOrCompletedException(taskId,
+        authentication.getName());
     log.trace("User task {} was found. {}", taskId, userTask);
 
     var currentUserName = authentication.getName();
@@ -165,9 +393,32 @@ public class UserTaskManagementService {
     log.trace("Verified that user task {} is not assigned to different user", taskId);
 
     userTaskRemoteService.assignUserTask(taskId, currentUserName);
+    userTaskIndex.onTaskAssigned(taskId, currentUserName);
     log.info("Task {} was claimed", taskId);
   }
 
+  /**
+   * Claiming several user tasks by current user. Tasks are claimed concurrently with bounded
+   * parallelism and a claim failure of one task doesn't fail the others, so the result of every
+   * task is returned instead.
+   *
+   * @param taskIds        ids of the tasks to claim, duplicates are claimed once
+   * @param authentication authentication object of current authenticated user
+   * @return claim results in the order of the task ids
+   * @throws BatchSizeExceededException if there are no task ids or more than allowed
+   */
+  @NonNull
+  public List<ClaimTaskResponse> claimTasks(@Nullable List<String> taskIds,
+      @NonNull Authentication authentication) {
+    var uniqueTaskIds = getUniqueBatchTaskIds(taskIds);
+    log.info("Claiming {} tasks", uniqueTaskIds.size());
+
+    var results = batchProcessingExecutor.invokeAll(uniqueTaskIds,
+        batchProperties.getParallelism(), taskId -> claimTask(taskId, authentication));
+    log.info("Tasks were claimed. {}", results);
+    return results;
+  }
+
   /**
    * Getting user task entity by id with form data pre-population if task's assigned to current
    * user
@@ -181,23 +432,63 @@ public class UserTaskManagementService {
   @NonNull
   public SignableDataUserTaskResponse getTaskById(@NonNull String taskId,
       @NonNull Authentication authentication) {
+    return getTaskById(taskId, FieldSelection.all(), authentication);
+  }
+
+  /**
+   * Getting user task entity by id with form data pre-population if task's assigned to current
+   * user and the data field is selected. Form data isn't read from the storage if the data field
+   * isn't selected.
+   *
+   * @param taskId         task identifier
+   * @param fields         fields of the task that are requested by the client
+   * @param authentication authentication object of current authenticated user
+   * @return the user task entity with form data pre-population
+   * @throws UserTaskNotExistsException     if user task wasn't found
+   * @throws UserTaskAuthorizationException if task is assigned to other user
+   */
+  @NonNull
+  public SignableDataUserTaskResponse getTaskById(@NonNull String taskId,
+      @NonNull FieldSelection fields, @NonNull Authentication authentication) {
     log.info("Getting unfinished user task by id {}", taskId);
 
-    var userTaskDto = getUserTaskOrThrowTaskNotExistsException(taskId);
+    var userTaskDto = getUserTaskOrThrowTaskNotExistsException(taskId,
+        authentication.getName());
     log.trace("Task was found in bpms {}", userTaskDto);
 
     throwExceptionIfUserTaskIsNotAssignedToCurrentUser(userTaskDto, authentication.getName());
 
-    var taskDefinitionKey = userTaskDto.getTaskDefinitionKey();
-    var processInstanceId = userTaskDto.getProcessInstanceId();
-    var data = getFormData(taskDefinitionKey, processInstanceId);
-    log.trace("Form data pre-population is found");
-
-    userTaskDto.setData(data.map(FormDataDto::getData).orElse(EMPTY_FORM_DATA));
+    if (fields.includes(DATA_FIELD)) {
+      prePopulateFormData(userTaskDto);
+    }
     log.info("Unfinished user task by id {} is found", taskId);
     return userTaskDto;
   }
 
+  /**
+   * Getting several user tasks by ids with form data pre-population. Every task is fetched the
+   * same way as {@link UserTaskManagementService#getTaskById(String, FieldSelection,
+   * Authentication) a single task}, tasks are fetched concurrently with bounded parallelism and a
+   * task that couldn't be fetched (e.g. isn't assigned to current user) doesn't fail the others.
+   *
+   * @param taskIds        ids of the tasks to get, duplicates are fetched once
+   * @param fields         fields of the tasks that are requested by the client
+   * @param authentication authentication object of current authenticated user
+   * @return fetch results in the order of the task ids
+   * @throws BatchSizeExceededException if there are no task ids or more than allowed
+   */
+  @NonNull
+  public List<TaskBatchItemResponse> getTasksByIds(@Nullable List<String> taskIds,
+      @NonNull FieldSelection fields, @NonNull Authentication authentication) {
+    var uniqueTaskIds = getUniqueBatchTaskIds(taskIds);
+    log.info("Getting {} unfinished user tasks by ids", uniqueTaskIds.size());
+
+    var results = batchProcessingExecutor.invokeAll(uniqueTaskIds,
+        batchProperties.getParallelism(), taskId -> getBatchItem(taskId, fields, authentication));
+    log.info("Unfinished user tasks by ids are fetched");
+    return results;
+  }
+
   /**
    * Completing user task by id with no signature verification
    *
@@ -205,20 +496,68 @@ public class UserTaskManagementService {
    * @param formData       data to save to the ceph
    * @param authentication authentication object of current authenticated user
    * @return {@link CompletedTaskResponse}
-   * @see UserTaskManagementService#completeTask(String, FormDataDto, Authentication,
+   * @see UserTaskManagementService#completeTask(String, FormDataDto, Authentication, Endpoint,
    * SignatureVerifier) Task completion method itself
    */
   public CompletedTaskResponse completeTaskById(@NonNull String taskId,
       @NonNull FormDataDto formData, @NonNull Authentication authentication) {
     log.info("Completing user task with id {}", taskId);
 
-    var result = completeTask(taskId, formData, authentication,
+    var result = completeTask(taskId, formData, authentication, Endpoint.COMPLETE,
         SignatureVerifier.NO_SIGNATURE_VERIFICATION);
 
     log.info("Task {} is completed", taskId);
     return result;
   }
 
+  /**
+   * Attaching the next user task of the same root process instance to the completion result, so
+   * the next step of the process is shown without additional requests. The next task is one of
+   * the tasks assigned to current user or unassigned. The task details with pre-populated form
+   * data are attached only if it's assigned to current user, the same as
+   * {@link #getTaskById(String, Authentication)} returns them, only identifier and assignee of an
+   * unassigned task are attached. Nothing is attached if the root process instance is ended,
+   * there's no such task yet or the task lookup failed (the completion itself has already
+   * succeeded).
+   *
+   * @param completedTask  completion result
+   * @param authentication authentication object of current authenticated user
+   * @return the completion result with the next task if it's found
+   */
+  @NonNull
+  public CompletedTaskResponse attachNextTask(@NonNull CompletedTaskResponse completedTask,
+      @NonNull Authentication authentication) {
+    if (completedTask.isRootProcessInstanceEnded()) {
+      return completedTask;
+    }
+    var rootProcessInstanceId = completedTask.getRootProcessInstanceId();
+    log.info("Getting next user task of root process instance {}", rootProcessInstanceId);
+    try {
+      var nextTasks = userTaskRemoteService.getLightweightUserTasks(rootProcessInstanceId,
+          authentication.getName(), Pageable.builder().maxResults(1).build());
+      if (nextTasks.isEmpty()) {
+        log.info("Next user task of root process instance {} isn't found", rootProcessInstanceId);
+        return completedTask;
+      }
+
+      var userName = authentication.getName();
+      var nextTask = userName.equals(nextTasks.get(0).getAssignee())
+          ? getUserTaskOrThrowTaskNotExistsException(nextTasks.get(0).getId(), userName) : null;
+      if (Objects.nonNull(nextTask) && userName.equals(nextTask.getAssignee())) {
+        prePopulateFormData(nextTask);
+      } else {
+        nextTask = toUnassignedNextTask(nextTasks.get(0));
+      }
+      completedTask.setNextTask(nextTask);
+      log.info("Next user task {} of root process instance {} is found", nextTask.getId(),
+          rootProcessInstanceId);
+    } catch (RuntimeException ex) {
+      log.warn("Couldn't get next user task of root process instance {}", rootProcessInstanceId,
+          ex);
+    }
+    return completedTask;
+  }
+
   /**
    * Completing user task by id with officer signature verification
    *
@@ -226,7 +565,7 @@ public class UserTaskManagementService {
    * @param formData       data to save to the ceph
    * @param authentication authentication object of current authenticated user
    * @return {@link CompletedTaskResponse}
-   * @see UserTaskManagementService#completeTask(String, FormDataDto, Authentication,
+   * @see UserTaskManagementService#completeTask(String, FormDataDto, Authentication, Endpoint,
    * SignatureVerifier) Task completion method itself
    */
   public CompletedTaskResponse signOfficerForm(@NonNull String taskId,
@@ -234,8 +573,9 @@ public class UserTaskManagementService {
       @NonNull Authentication authentication) {
     log.info("Completing signable officer task with id {}", taskId);
 
-    var result = completeTask(taskId, formData, authentication,
-        (taskDto, data) -> digitalSignatureRemoteService.verifyOfficerFormData(data));
+    var result = completeTask(taskId, formData, authentication, Endpoint.OFFICER_SIGN,
+        (subjects, data, serializedData, userName) -> digitalSignatureRemoteService
+            .verifyOfficerFormData(data, serializedData, userName));
 
     log.info("Signable officer task {} is completed", taskId);
     return result;
@@ -248,7 +588,7 @@ public class UserTaskManagementService {
    * @param formData       data to save to the ceph
    * @param authentication authentication object of current authenticated user
    * @return {@link CompletedTaskResponse}
-   * @see UserTaskManagementService#completeTask(String, FormDataDto, Authentication,
+   * @see UserTaskManagementService#completeTask(String, FormDataDto, Authentication, Endpoint,
    * SignatureVerifier) Task completion method itself
    */
   public CompletedTaskResponse signCitizenForm(@NonNull String taskId,
@@ -256,7 +596,7 @@ public class UserTaskManagementService {
       @NonNull Authentication authentication) {
     log.info("Completing signable citizen task with id {}", taskId);
 
-    var result = completeTask(taskId, formData, authentication,
+    var result = completeTask(taskId, formData, authentication, Endpoint.CITIZEN_SIGN,
         digitalSignatureRemoteService::verifyCitizenFormData);
 
     log.info("Signable citizen task {} is completed", taskId);
@@ -270,14 +610,14 @@ public class UserTaskManagementService {
    * @param formData       data to save to the storage
    * @param authentication authentication object of current authenticated user
    * @see UserTaskManagementService#saveFormDataToStorage(String, FormDataDto, Authentication,
-   * SignatureVerifier) Form data saving method itself
+   * Endpoint, SignatureVerifier) Form data saving method itself
    */
   public void saveFormData(@NonNull String taskId,
       @NonNull FormDataDto formData,
       @NonNull Authentication authentication) {
     log.info("Saving form data for task with id {}", taskId);
 
-    saveFormDataToStorage(taskId, formData, authentication,
+    saveFormDataToStorage(taskId, formData, authentication, Endpoint.SAVE,
         SignatureVerifier.NO_SIGNATURE_VERIFICATION);
 
     log.info("Form data for task with id {} is saved", taskId);
@@ -290,54 +630,100 @@ public class UserTaskManagementService {
    * <ol>
    * <li>Finds user task by id</li>
    * <li>Verifies if user task is assigned to current user</li>
-   * <li>Validates user task form data</li>
-   * <li>Verifies signature by input signature verifier</li>
+   * <li>Serializes form data once for all the following steps</li>
+   * <li>Validates user task form data and verifies signature by input signature verifier (both
+   * are run concurrently)</li>
    * <li>Saves form data to form data storage</li>
    * <li>Completes the user task in Camunda</li>
    * </ol>
+   * Validation, storing and completion aren't started once the request deadline has passed.
    *
    * @param taskId            task identifier
    * @param formData          data to save to the ceph
    * @param authentication    authentication object of current authenticated user
+   * @param endpoint          completion endpoint that is used for stage latency metrics
    * @param signatureVerifier object that performs signature verification
    * @throws UserTaskNotExistsException     if user task wasn't found
    * @throws UserTaskAuthorizationException if task is assigned to other user
    * @throws ValidationException            if form data hasn't passed the validation
+   * @throws DeadlineExceededException      if the request deadline has passed before any of the
+   *                                        validation, storing or completion steps
    * @return {@link CompletedTaskResponse}
    */
   private CompletedTaskResponse completeTask(String taskId, FormDataDto formData,
-      Authentication authentication, SignatureVerifier signatureVerifier) {
+      Authentication authentication, Endpoint endpoint, SignatureVerifier signatureVerifier) {
     log.debug("Completing user task {}", taskId);
 
-    saveFormDataToStorage(taskId, formData, authentication, signatureVerifier);
-    var result = userTaskRemoteService.completeTaskById(taskId);
+    saveFormDataToStorage(taskId, formData, authentication, endpoint, signatureVerifier);
+    Deadline.checkCurrent(Stage.TASK_COMPLETION.getTagValue());
+    var result = taskCompletionMetrics.record(endpoint, Stage.TASK_COMPLETION,
+        () -> userTaskRemoteService.completeTaskById(taskId));
+    userTaskIndex.onTaskCompleted(taskId);
+    taskCountCache.onTaskCompleted(authentication.getName());
 
     log.debug("User task {} successfully completed", taskId);
     return result;
   }
 
   private void saveFormDataToStorage(String taskId, FormDataDto formData,
-      Authentication authentication, SignatureVerifier signatureVerifier) {
-    var taskDto = getUserTaskOrThrowTaskNotExistsException(taskId);
+      Authentication authentication, Endpoint endpoint, SignatureVerifier signatureVerifier) {
+    var taskDto = taskCompletionMetrics.record(endpoint, Stage.TASK_FETCH,
+        () -> getUserTaskOrThrowTaskNotExistsException(taskId, authentication.getName()));
     log.trace("User task {} was found", taskId);
 
     var currentUserName = authentication.getName();
-    throwExceptionIfUserTaskIsNotAssignedToCurrentUser(taskDto, currentUserName);
+    taskCompletionMetrics.record(endpoint, Stage.ASSIGNEE_CHECK,
+        () -> throwExceptionIfUserTaskIsNotAssignedToCurrentUser(taskDto, currentUserName));
     log.trace("Verified that user task {} is assigned to {}", taskDto.getId(), currentUserName);
 
-    validateFormData(taskDto, formData);
-    log.trace("Form data has passed the validation");
-
-    signatureVerifier.verify(taskDto.getSignatureValidationPack(), formData);
-    log.trace("Form data has passed the signature verification if there was any");
+    var serializedData = formDataSerializer.serialize(formData.getData());
+    Deadline.checkCurrent(Stage.FORM_VALIDATION.getTagValue());
+    validateFormDataAndVerifySignature(taskDto, formData, serializedData, currentUserName,
+        endpoint, signatureVerifier);
+    log.trace("Form data has passed the validation and the signature verification if there was any");
 
     formData.setAccessToken((String) authentication.getCredentials());
-    formDataStorageService.putFormData(taskDto.getTaskDefinitionKey(),
-        taskDto.getProcessInstanceId(),
-        formData);
+    Deadline.checkCurrent(Stage.FORM_DATA_STORAGE.getTagValue());
+    taskCompletionMetrics.record(endpoint, Stage.FORM_DATA_STORAGE,
+        () -> bulkheadRegistry.execute(Dependency.FORM_DATA_STORAGE,
+            () -> formDataStorageService.putFormData(taskDto.getTaskDefinitionKey(),
+                taskDto.getProcessInstanceId(), formData)));
     log.trace("Form data is saved");
   }
 
+  /**
+   * Validates form data and verifies its signature. If there is a signature to verify, both remote
+   * calls are run concurrently and both are awaited. Validation errors take precedence over
+   * signature errors.
+   */
+  private void validateFormDataAndVerifySignature(SignableDataUserTaskResponse taskDto,
+      FormDataDto formData, SerializedFormData serializedData, String currentUserName,
+      Endpoint endpoint, SignatureVerifier signatureVerifier) {
+    Runnable validation = () -> taskCompletionMetrics.record(endpoint, Stage.FORM_VALIDATION,
+        () -> validateFormData(taskDto, formData, serializedData));
+    if (signatureVerifier == SignatureVerifier.NO_SIGNATURE_VERIFICATION) {
+      validation.run();
+      return;
+    }
+
+    var validationFuture = formProcessingExecutor.runAsync(validation);
+    var signatureFuture = formProcessingExecutor.runAsync(
+        () -> taskCompletionMetrics.record(endpoint, Stage.SIGNATURE_VERIFICATION,
+            () -> signatureVerifier.verify(taskDto.getSignatureValidationPack(), formData,
+                serializedData, currentUserName)));
+    ContextAwareExecutor.awaitAll(validationFuture, signatureFuture);
+
+    ContextAwareExecutor.join(validationFuture);
+    ContextAwareExecutor.join(signatureFuture);
+  }
+
+  private static SignableDataUserTaskResponse toUnassignedNextTask(
+      UserTaskLightweightResponse task) {
+    var nextTask = new SignableDataUserTaskResponse();
+    nextTask.setId(task.getId());
+    return nextTask;
+  }
+
   private void throwExceptionIfUserTaskIsNotAssignedToCurrentUser(
       SignableDataUserTaskResponse taskDto,
       String currentUserName) {
@@ -353,18 +739,75 @@ public class UserTaskManagementService {
     }
   }
 
+  private <T> InboxResponse<T> getInbox(Supplier<List<T>> tasksSupplier,
+      Authentication authentication) {
+    var countFuture = readFanOutExecutor.supplyAsync(() -> countTasks(authentication));
+    List<T> tasks;
+    try {
+      tasks = tasksSupplier.get();
+    } finally {
+      ContextAwareExecutor.awaitAll(countFuture);
+    }
+    return new InboxResponse<>(tasks, ContextAwareExecutor.join(countFuture).getCount());
+  }
+
+  private static List<String> getAuthorities(Authentication authentication) {
+    return authentication.getAuthorities().stream()
+        .map(GrantedAuthority::getAuthority)
+        .collect(Collectors.toList());
+  }
+
+  private List<String> getUniqueBatchTaskIds(List<String> taskIds) {
+    var uniqueTaskIds = new ArrayList<>(
+        new LinkedHashSet<>(Objects.requireNonNullElse(taskIds, List.of())));
+    if (uniqueTaskIds.isEmpty() || uniqueTaskIds.size() > batchProperties.getMaxSize()) {
+      throw new BatchSizeExceededException(uniqueTaskIds.size(), batchProperties.getMaxSize());
+    }
+    return uniqueTaskIds;
+  }
+
+  private TaskBatchItemResponse getBatchItem(String taskId, FieldSelection fields,
+      Authentication authentication) {
+    try {
+      return TaskBatchItemResponse.found(getTaskById(taskId, fields, authentication));
+    } catch (UserTaskNotExistsException ex) {
+      return TaskBatchItemResponse.failed(taskId, TaskBatchItemStatus.NOT_FOUND,
+          ex.getCause().getMessage());
+    } catch (UserTaskAuthorizationException ex) {
+      return TaskBatchItemResponse.failed(taskId, TaskBatchItemStatus.FORBIDDEN, ex.getMessage());
+    } catch (RuntimeException ex) {
+      log.warn("Task {} couldn't be fetched", taskId, ex);
+      return TaskBatchItemResponse.failed(taskId, TaskBatchItemStatus.FAILED, ex.getMessage());
+    }
+  }
+
+  private ClaimTaskResponse claimTask(String taskId, Authentication authentication) {
+    try {
+      claimTaskById(taskId, authentication);
+      return new ClaimTaskResponse(taskId, ClaimStatus.CLAIMED);
+    } catch (UserTaskNotExistsOrCompletedException ex) {
+      return new ClaimTaskResponse(taskId, ClaimStatus.NOT_FOUND);
+    } catch (UserTaskAlreadyAssignedException ex) {
+      return new ClaimTaskResponse(taskId, ClaimStatus.ALREADY_ASSIGNED);
+    } catch (RuntimeException ex) {
+      log.warn("Task {} couldn't be claimed", taskId, ex);
+      return new ClaimTaskResponse(taskId, ClaimStatus.FAILED);
+    }
+  }
+
   private SignableDataUserTaskResponse getUserTaskOrThrowTaskNotExistsOrCompletedException(
-      String taskId) {
+      String taskId, String userName) {
     try {
-      return userTaskRemoteService.getUserTaskById(taskId);
+      return userTaskRemoteService.getUserTaskById(taskId, userName);
     } catch (TaskNotFoundException ex) {
       throw new UserTaskNotExistsOrCompletedException(ex);
     }
   }
 
-  private SignableDataUserTaskResponse getUserTaskOrThrowTaskNotExistsException(String taskId) {
+  private SignableDataUserTaskResponse getUserTaskOrThrowTaskNotExistsException(String taskId,
+      String userName) {
     try {
-      return userTaskRemoteService.getUserTaskById(taskId);
+      return userTaskRemoteService.getUserTaskById(taskId, userName);
     } catch (TaskNotFoundException ex) {
       throw new UserTaskNotExistsException(taskId, ex);
     }
@@ -381,26 +824,72 @@ public class UserTaskManagementService {
     }
   }
 
-  private void validateFormData(SignableDataUserTaskResponse taskDto, FormDataDto formDataDto) {
+  private void validateFormData(SignableDataUserTaskResponse taskDto, FormDataDto formDataDto,
+      SerializedFormData serializedData) {
     if(formDataDto.getData() != null && StringUtils.isNotBlank((String) formDataDto.getData().get("_action_code"))) {
       return;
     }
+    var dataDigest = serializedData.getDigest();
+    if (formValidationResultCache.isValid(taskDto.getFormKey(), taskDto.getProcessInstanceId(),
+        dataDigest)) {
+      log.debug("Form data has already passed the validation");
+      return;
+    }
     var formValidationDto =
         FormDataValidationDto.builder()
             .data(formDataDto.getData())
             .processInstanceId(taskDto.getProcessInstanceId())
             .build();
-    var validationResult =
-        formValidationService.validateForm(taskDto.getFormKey(), formValidationDto);
+    var validationResult = bulkheadRegistry.execute(Dependency.FORM_VALIDATION,
+        () -> formValidationService.validateForm(taskDto.getFormKey(), formValidationDto));
     if (!validationResult.isValid()) {
       throw new ValidationException(validationResult.getError());
     }
+    formValidationResultCache.putValid(taskDto.getFormKey(), taskDto.getProcessInstanceId(),
+        dataDigest);
+  }
+
+  /**
+   * Validates pre-populated form data of signable task in the background, so if the data is signed
+   * without changes the validation result is already cached. Validation errors are ignored and
+   * the validation is skipped when the executor is saturated, so it never delays the task read.
+   */
+  private void validateFormDataSpeculatively(SignableDataUserTaskResponse taskDto,
+      FormDataDto formData) {
+    if (!formValidationCacheProperties.isSpeculativeValidationEnabled() || !taskDto.isESign()
+        || Objects.isNull(formData.getData()) || formData.getData().isEmpty()) {
+      return;
+    }
+    var taskSnapshot = new SignableDataUserTaskResponse();
+    taskSnapshot.setFormKey(taskDto.getFormKey());
+    taskSnapshot.setProcessInstanceId(taskDto.getProcessInstanceId());
+    try {
+      speculativeValidationExecutor.runAsync(() -> validateFormData(taskSnapshot, formData,
+              formDataSerializer.serialize(formData.getData())))
+          .exceptionally(ex -> {
+            log.debug("Speculative validation of task {} form data failed", taskDto.getId(), ex);
+            return null;
+          });
+    } catch (RejectedExecutionException ex) {
+      log.debug("Speculative validation of task {} form data skipped", taskDto.getId());
+    }
+  }
+
+  private void prePopulateFormData(SignableDataUserTaskResponse userTaskDto) {
+    var taskDefinitionKey = userTaskDto.getTaskDefinitionKey();
+    var processInstanceId = userTaskDto.getProcessInstanceId();
+    var data = getFormData(taskDefinitionKey, processInstanceId);
+    log.trace("Form data pre-population is found");
+
+    userTaskDto.setData(data.map(FormDataDto::getData).orElse(EMPTY_FORM_DATA));
+    data.ifPresent(formData -> validateFormDataSpeculatively(userTaskDto, formData));
   }
 
   private Optional<FormDataDto> getFormData(String taskDefinitionKey,
                                             String processInstanceId) {
     try {
-      return formDataStorageService.getFormData(taskDefinitionKey, processInstanceId);
+      return bulkheadRegistry.execute(Dependency.FORM_DATA_STORAGE,
+          () -> formDataStorageService.getFormData(taskDefinitionKey, processInstanceId));
     } catch (FormDataRepositoryCommunicationException ex) {
       log.warn("Couldn't get form data by task definition {} and process instance id {} from ceph",
           taskDefinitionKey, processInstanceId, ex);
@@ -411,9 +900,11 @@ public class UserTaskManagementService {
   @FunctionalInterface
   private interface SignatureVerifier {
 
-    SignatureVerifier NO_SIGNATURE_VERIFICATION = (subjects, formData) -> {
-    };
+    SignatureVerifier NO_SIGNATURE_VERIFICATION =
+        (subjects, formData, serializedData, userName) -> {
+        };
 
-    void verify(Set<Subject> allowedSubjects, FormDataDto formData);
+    void verify(Set<Subject> allowedSubjects, FormDataDto formData,
+        SerializedFormData serializedData, String userName);
   }
 }
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.stream;
+
+import brave.propagation.CurrentTraceContext;
+import brave.propagation.TraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskStreamProperties;
+import com.epam.digital.data.platform.usrtaskmgt.deadline.Deadline;
+import com.epam.digital.data.platform.usrtaskmgt.exception.TaskStreamLimitExceededException;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.TaskListChangeResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Server-sent events stream of the user task count and lightweight task list changes. Task count
+ * and task list of every subscribed user are refreshed by one shared refresh scheduler (once per
+ * user regardless of the number of the user connections, users are refreshed in parallel batches
+ * on the refresh executor, the first refresh of a new user runs on the refresh executor right
+ * away) and only the changes are pushed: {@value #COUNT_EVENT} event with the new count and
+ * {@value #TASKS_EVENT} event with added and removed tasks. The task list is
+ * requested only when the count has changed or the task list refresh interval has passed. Idle
+ * connections are kept open by heartbeat comments that are sent by a separate scheduler, so slow
+ * refreshes never delay them.
+ * <p>
+ * Refreshes are executed with the trace context (and so the access token) of the latest user
+ * connection. Exports {@value #CONNECTIONS_GAUGE_NAME}, {@value #SUBSCRIBERS_GAUGE_NAME} gauges,
+ * {@value #REJECTIONS_COUNTER_NAME}, {@value #EVENTS_COUNTER_NAME} (tagged by {@code type}) and
+ * {@value #REFRESHES_COUNTER_NAME} (tagged by {@code result}) counters.
+ */
+@Slf4j
+public class TaskStreamRegistry {
+
+  public static final String COUNT_EVENT = "count";
+  public static final String TASKS_EVENT = "tasks";
+
+  public static final String CONNECTIONS_GAUGE_NAME = "usertask.task.stream.connections";
+  public static final String SUBSCRIBERS_GAUGE_NAME = "usertask.task.stream.subscribers";
+  public static final String REJECTIONS_COUNTER_NAME = "usertask.task.stream.rejections";
+  public static final String EVENTS_COUNTER_NAME = "usertask.task.stream.events";
+  public static final String REFRESHES_COUNTER_NAME = "usertask.task.stream.refreshes";
+
+  private final ConcurrentMap<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final UserTaskRemoteService userTaskRemoteService;
+  private final TaskStreamProperties properties;
+  private final ContextAwareExecutor refreshExecutor;
+  private final CurrentTraceContext currentTraceContext;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledExecutorService refreshScheduler;
+  private final ScheduledExecutorService heartbeatScheduler;
+
+  public TaskStreamRegistry(UserTaskRemoteService userTaskRemoteService,
+      TaskStreamProperties properties, ContextAwareExecutor refreshExecutor,
+      CurrentTraceContext currentTraceContext, MeterRegistry meterRegistry) {
+    this.userTaskRemoteService = userTaskRemoteService;
+    this.properties = properties;
+    this.refreshExecutor = refreshExecutor;
+    this.currentTraceContext = currentTraceContext;
+    this.meterRegistry = meterRegistry;
+    this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("task-stream-refresh-scheduler-"));
+    this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("task-stream-heartbeat-"));
+
+    Gauge.builder(CONNECTIONS_GAUGE_NAME, connections, AtomicInteger::get)
+        .description("Number of open task stream connections")
+        .register(meterRegistry);
+    Gauge.builder(SUBSCRIBERS_GAUGE_NAME, subscribers, Map::size)
+        .description("Number of users with open task stream connections")
+        .register(meterRegistry);
+
+    var refreshInterval = properties.getRefreshInterval().toMillis();
+    refreshScheduler.scheduleWithFixedDelay(this::refreshAll, refreshInterval, refreshInterval,
+        TimeUnit.MILLISECONDS);
+    var heartbeatInterval = properties.getHeartbeatInterval().toMillis();
+    heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatInterval,
+        heartbeatInterval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Opening the task stream connection of the user. The current task count and task list are sent
+   * as soon as they are known.
+   *
+   * @param userName current user name
+   * @return emitter of the connection
+   * @throws TaskStreamLimitExceededException if the maximum number of connections is reached
+   */
+  public SseEmitter subscribe(String userName) {
+    if (connections.incrementAndGet() > properties.getMaxConnections()) {
+      connections.decrementAndGet();
+      Counter.builder(REJECTIONS_COUNTER_NAME)
+          .description("Number of task stream connections rejected because of the limit")
+          .register(meterRegistry)
+          .increment();
+      throw new TaskStreamLimitExceededException(properties.getMaxConnections(),
+          properties.getRetryAfter());
+    }
+
+    var emitter = new SseEmitter(properties.getConnectionTimeout().toMillis());
+    var traceContext = currentTraceContext.get();
+    var isNewSubscriber = new AtomicBoolean();
+    var subscriber = subscribers.compute(userName, (name, existing) -> {
+      var result = Objects.requireNonNullElseGet(existing, () -> {
+        isNewSubscriber.set(true);
+        return new Subscriber(name);
+      });
+      result.emitters.add(emitter);
+      result.traceContext = traceContext;
+      return result;
+    });
+
+    var closed = new AtomicBoolean();
+    emitter.onCompletion(() -> {
+      if (closed.compareAndSet(false, true)) {
+        unsubscribe(userName, emitter);
+      }
+    });
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(ex -> emitter.complete());
+
+    if (isNewSubscriber.get()) {
+      refreshExecutor.runAsync(() -> {
+        Deadline.set(null);
+        refresh(subscriber);
+      });
+    } else {
+      sendCurrentState(subscriber, emitter);
+    }
+    return emitter;
+  }
+
+  public void shutdown() {
+    log.info("Shutting down task stream");
+    refreshScheduler.shutdownNow();
+    heartbeatScheduler.shutdownNow();
+    subscribers.values().forEach(subscriber -> subscriber.emitters.forEach(SseEmitter::complete));
+  }
+
+  private void unsubscribe(String userName, SseEmitter emitter) {
+    connections.decrementAndGet();
+    subscribers.computeIfPresent(userName, (name, subscriber) -> {
+      subscriber.emitters.remove(emitter);
+      return subscriber.emitters.isEmpty() ? null : subscriber;
+    });
+  }
+
+  private void refreshAll() {
+    try {
+      refreshExecutor.invokeAll(new ArrayList<>(subscribers.values()),
+          properties.getRefreshParallelism(), subscriber -> {
+            refresh(subscriber);
+            return null;
+          });
+    } catch (RuntimeException ex) {
+      log.warn("Task stream refresh failed", ex);
+    }
+  }
+
+  private void refresh(Subscriber subscriber) {
+    synchronized (subscriber) {
+      if (subscriber.emitters.isEmpty()) {
+        return;
+      }
+      CountResponse count;
+      List<UserTaskLightweightResponse> tasks = null;
+      try (var scope = currentTraceContext.maybeScope(subscriber.traceContext)) {
+        count = userTaskRemoteService.countUserTasks(subscriber.userName);
+        if (isTaskListRefreshNeeded(subscriber, count)) {
+          tasks = userTaskRemoteService.getLightweightUserTasks(null, subscriber.userName,
+              Pageable.builder().maxResults(properties.getMaxTasks()).build());
+          subscriber.tasksRefreshedNanos = System.nanoTime();
+        }
+        subscriber.failures = 0;
+        refreshCounter("success").increment();
+      } catch (RuntimeException ex) {
+        refreshCounter("error").increment();
+        if (++subscriber.failures >= properties.getMaxRefreshFailures()) {
+          log.warn("Task stream refresh failed {} times in a row, closing connections",
+              subscriber.failures, ex);
+          subscriber.emitters.forEach(SseEmitter::complete);
+        } else {
+          log.debug("Task stream refresh failed", ex);
+        }
+        return;
+      }
+
+      if (Objects.isNull(subscriber.count) || subscriber.count.getCount() != count.getCount()) {
+        subscriber.count = count;
+        subscriber.emitters.forEach(emitter -> send(emitter, COUNT_EVENT, count));
+      }
+      if (Objects.isNull(tasks)) {
+        return;
+      }
+
+      var currentTasks = tasks.stream().collect(Collectors.toMap(
+          UserTaskLightweightResponse::getId, task -> task, (first, second) -> first,
+          LinkedHashMap::new));
+      var change = diff(Objects.requireNonNullElse(subscriber.tasks, Map.of()), currentTasks);
+      if (Objects.isNull(subscriber.tasks) || !change.getAdded().isEmpty()
+          || !change.getRemoved().isEmpty()) {
+        subscriber.tasks = currentTasks;
+        subscriber.emitters.forEach(emitter -> send(emitter, TASKS_EVENT, change));
+      }
+    }
+  }
+
+  private boolean isTaskListRefreshNeeded(Subscriber subscriber, CountResponse count) {
+    return Objects.isNull(subscriber.tasks) || Objects.isNull(subscriber.count)
+        || subscriber.count.getCount() != count.getCount()
+        || System.nanoTime() - subscriber.tasksRefreshedNanos
+        >= properties.getTaskListRefreshInterval().toNanos();
+  }
+
+  private void sendCurrentState(Subscriber subscriber, SseEmitter emitter) {
+    synchronized (subscriber) {
+      if (Objects.nonNull(subscriber.count)) {
+        send(emitter, COUNT_EVENT, subscriber.count);
+      }
+      if (Objects.nonNull(subscriber.tasks)) {
+        send(emitter, TASKS_EVENT, diff(Map.of(), subscriber.tasks));
+      }
+    }
+  }
+
+  private void sendHeartbeats() {
+    subscribers.values().forEach(subscriber -> subscriber.emitters.forEach(
+        emitter -> send(emitter, "heartbeat", SseEmitter.event().comment("heartbeat"))));
+  }
+
+  private void send(SseEmitter emitter, String type, Object data) {
+    send(emitter, type, SseEmitter.event().name(type).data(data));
+  }
+
+  private void send(SseEmitter emitter, String type, SseEventBuilder event) {
+    try {
+      emitter.send(event);
+      Counter.builder(EVENTS_COUNTER_NAME)
+          .description("Number of events sent to task stream connections")
+          .tag("type", type)
+          .register(meterRegistry)
+          .increment();
+    } catch (IOException | IllegalStateException ex) {
+      log.debug("Task stream connection is closed", ex);
+      emitter.complete();
+    }
+  }
+
+  private static TaskListChangeResponse diff(Map<String, UserTaskLightweightResponse> previous,
+      Map<String, UserTaskLightweightResponse> current) {
+    var added = current.values().stream()
+        .filter(task -> !task.equals(previous.get(task.getId())))
+        .collect(Collectors.toList());
+    var removed = previous.keySet().stream()
+        .filter(taskId -> !current.containsKey(taskId))
+        .collect(Collectors.toList());
+    return new TaskListChangeResponse(added, removed);
+  }
+
+  private Counter refreshCounter(String result) {
+    return Counter.builder(REFRESHES_COUNTER_NAME)
+        .description("Number of task count and task list refreshes of subscribed users")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static final class Subscriber {
+
+    private final String userName;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile TraceContext traceContext;
+    private CountResponse count;
+    private Map<String, UserTaskLightweightResponse> tasks;
+    private long tasksRefreshedNanos;
+    private int failures;
+
+    private Subscriber(String userName) {
+      this.userName = userName;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContextAwareExecutorTest {
+
+  private ContextAwareExecutor executor;
+
+  @BeforeEach
+  void init() {
+    executor = new ContextAwareExecutor("test", Executors.newFixedThreadPool(8),
+        ThreadLocalCurrentTraceContext.create());
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldReturnResultsInOrderOfItems() {
+    var items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+    var results = executor.invokeAll(items, 4, item -> {
+      sleep(20 - item);
+      return "item" + item;
+    });
+
+    assertThat(results).isEqualTo(
+        items.stream().map(item -> "item" + item).collect(Collectors.toList()));
+  }
+
+  @Test
+  void shouldBoundParallelism() {
+    var inFlight = new AtomicInteger();
+    var maxInFlight = new AtomicInteger();
+    var items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+    executor.invokeAll(items, 3, item -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      sleep(10);
+      inFlight.decrementAndGet();
+      return item;
+    });
+
+    assertThat(maxInFlight.get()).isBetween(2, 3);
+  }
+
+  @Test
+  void shouldRethrowUnhandledExceptionAfterAllItemsProcessed() {
+    var processed = new AtomicInteger();
+    var items = List.of(1, 2, 3, 4);
+
+    assertThatThrownBy(() -> executor.invokeAll(items, 2, item -> {
+      if (item == 1) {
+        throw new IllegalStateException("item failed");
+      }
+      processed.incrementAndGet();
+      return item;
+    })).isInstanceOf(IllegalStateException.class);
+    assertThat(processed.get()).isPositive();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
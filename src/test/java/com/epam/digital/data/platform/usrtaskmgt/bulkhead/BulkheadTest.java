@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.BulkheadProperties.Limit;
+import com.epam.digital.data.platform.usrtaskmgt.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private Bulkhead bulkhead;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    bulkhead = new Bulkhead("dso", new Limit(1, 0, Duration.ofMillis(10)), Duration.ofSeconds(2),
+        meterRegistry);
+  }
+
+  @Test
+  void shouldRejectCallWhenBulkheadIsFull() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var call = CompletableFuture.runAsync(() -> bulkhead.execute(() -> {
+      started.countDown();
+      return await(release);
+    }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> bulkhead.execute(() -> "result"))
+        .isInstanceOf(BulkheadFullException.class)
+        .extracting("retryAfter").isEqualTo(Duration.ofSeconds(2));
+
+    release.countDown();
+    call.get(5, TimeUnit.SECONDS);
+    assertThat(meterRegistry.get(Bulkhead.CALLS_COUNTER_NAME).tag("result", "rejected")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReleaseSlotWhenCallFails() {
+    assertThatThrownBy(() -> bulkhead.execute(() -> {
+      throw new IllegalStateException();
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(bulkhead.execute(() -> "result")).isEqualTo("result");
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
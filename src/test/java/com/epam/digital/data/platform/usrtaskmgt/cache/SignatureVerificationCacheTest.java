@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.dso.api.dto.Subject;
+import com.epam.digital.data.platform.usrtaskmgt.config.SignatureVerificationCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SignatureVerificationCacheTest {
+
+  private SignatureVerificationCache signatureVerificationCache;
+
+  @BeforeEach
+  void init() {
+    signatureVerificationCache = new SignatureVerificationCache(
+        new SignatureVerificationCacheProperties(), new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldSkipVerificationOfIdenticalRequest() {
+    var verifications = new AtomicInteger();
+
+    signatureVerificationCache.verify("citizen", "user", List.of(Subject.INDIVIDUAL), "signature",
+        "{}", verifications::incrementAndGet);
+    signatureVerificationCache.verify("citizen", "user", List.of(Subject.INDIVIDUAL), "signature",
+        "{}", verifications::incrementAndGet);
+
+    assertThat(verifications.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldVerifyRequestWithDifferentData() {
+    var verifications = new AtomicInteger();
+
+    signatureVerificationCache.verify("officer", "user", List.of(), "signature", "{\"a\":1}",
+        verifications::incrementAndGet);
+    signatureVerificationCache.verify("officer", "user", List.of(), "signature", "{\"a\":2}",
+        verifications::incrementAndGet);
+
+    assertThat(verifications.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldVerifyRequestOfDifferentUser() {
+    var verifications = new AtomicInteger();
+
+    signatureVerificationCache.verify("officer", "user1", List.of(), "signature", "{}",
+        verifications::incrementAndGet);
+    signatureVerificationCache.verify("officer", "user2", List.of(), "signature", "{}",
+        verifications::incrementAndGet);
+
+    assertThat(verifications.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheFailedVerification() {
+    var verifications = new AtomicInteger();
+    Runnable failedVerification = () -> {
+      verifications.incrementAndGet();
+      throw new IllegalStateException();
+    };
+
+    assertThatThrownBy(() -> signatureVerificationCache.verify("officer", "user", List.of(),
+        "signature", "{}", failedVerification)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> signatureVerificationCache.verify("officer", "user", List.of(),
+        "signature", "{}", failedVerification)).isInstanceOf(IllegalStateException.class);
+
+    assertThat(verifications.get()).isEqualTo(2);
+  }
+}
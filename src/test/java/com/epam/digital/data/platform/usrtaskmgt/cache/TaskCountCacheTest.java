@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskCountCacheProperties;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCountCacheTest {
+
+  private static final String KEY = "user-task-management:task-count:officer";
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TaskCountCache taskCountCache;
+
+  @BeforeEach
+  void init() {
+    lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    meterRegistry = new SimpleMeterRegistry();
+    taskCountCache = new TaskCountCache(new TaskCountCacheProperties(), redisTemplate,
+        meterRegistry);
+  }
+
+  @Test
+  void shouldLoadCountOnceAndShareIt() {
+    var loads = new AtomicInteger();
+
+    var first = taskCountCache.get("officer", () -> new CountResponse(loads.incrementAndGet()));
+    var second = taskCountCache.get("officer", () -> new CountResponse(loads.incrementAndGet()));
+
+    assertThat(first.getCount()).isEqualTo(1);
+    assertThat(second.getCount()).isEqualTo(1);
+    assertThat(loads.get()).isEqualTo(1);
+    verify(valueOperations).set(KEY, "1", Duration.ofSeconds(3));
+    assertThat(requests("local-hit")).isEqualTo(1);
+    assertThat(requests("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReuseCountSharedByOtherReplica() {
+    when(valueOperations.get(KEY)).thenReturn("7");
+
+    var result = taskCountCache.get("officer", () -> new CountResponse(1));
+
+    assertThat(result.getCount()).isEqualTo(7);
+    assertThat(requests("shared-hit")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldDecrementCountOnTaskCompletion() {
+    taskCountCache.get("officer", () -> new CountResponse(1));
+
+    taskCountCache.onTaskCompleted("officer");
+    taskCountCache.onTaskCompleted("officer");
+
+    assertThat(taskCountCache.get("officer", () -> new CountResponse(10)).getCount()).isZero();
+    verify(redisTemplate, times(2)).delete(KEY);
+  }
+
+  @Test
+  void shouldLoadCountIfRedisIsUnavailable() {
+    when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("unavailable"));
+
+    var result = taskCountCache.get("officer", () -> new CountResponse(3));
+
+    assertThat(result.getCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotCacheIfDisabled() {
+    var properties = new TaskCountCacheProperties();
+    properties.setEnabled(false);
+    taskCountCache = new TaskCountCache(properties, redisTemplate, meterRegistry);
+    var loads = new AtomicInteger();
+
+    taskCountCache.get("officer", () -> new CountResponse(loads.incrementAndGet()));
+    taskCountCache.get("officer", () -> new CountResponse(loads.incrementAndGet()));
+
+    assertThat(loads.get()).isEqualTo(2);
+    verify(redisTemplate, never()).opsForValue();
+  }
+
+  private double requests(String result) {
+    return meterRegistry.get(TaskCountCache.REQUESTS_COUNTER_NAME).tag("result", result).counter()
+        .count();
+  }
+}
@@ -31,10 +31,16 @@ import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskAlreadyAssign
 import com.epam.digital.data.platform.usrtaskmgt.exception.UserTaskNotExistsOrCompletedException;
 import com.epam.digital.data.platform.usrtaskmgt.i18n.UserTaskManagementMessage;
 import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.ClaimTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.ClaimTaskResponse.ClaimStatus;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.CompletedTaskResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.CompletedTaskResponse.VariableValueResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CursorPage;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.InboxResponse;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.SignableDataUserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.TaskBatchItemResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.TaskBatchItemResponse.TaskBatchItemStatus;
 import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
 import com.epam.digital.data.platform.usrtaskmgt.service.UserTaskManagementService;
 import com.google.common.collect.ImmutableMap;
@@ -76,7 +82,9 @@ public abstract class BaseControllerTest {
     mockGetTasks();
     mockGetTasksByProcessInstanceId();
     mockClaimTaskById();
+    mockClaimTasks();
     mockCompleteTask();
+    mockCompleteTaskWithNextTask();
     mockSignOfficerTask();
     mockSignCitizenTask();
   }
@@ -92,7 +100,12 @@ public abstract class BaseControllerTest {
         "testFormKey", true, true,
         ImmutableMap.of("fullName", "FullName"), Set.of(), ImmutableMap.of("var1", 123123));
 
-    lenient().when(userTaskManagementService.getTaskById(eq("testId"), any())).thenReturn(taskById);
+    lenient().when(userTaskManagementService.getTaskById(eq("testId"), any(), any())).thenReturn(taskById);
+    lenient().when(userTaskManagementService.getTasksByIds(eq(List.of("testId", "testId403")),
+            any(), any()))
+        .thenReturn(List.of(TaskBatchItemResponse.found(taskById),
+            TaskBatchItemResponse.failed("testId403", TaskBatchItemStatus.FORBIDDEN,
+                "403 message")));
   }
 
   void mockGetTasks() {
@@ -125,8 +138,10 @@ public abstract class BaseControllerTest {
         .businessKey(null)
         .build();
 
-    lenient().when(userTaskManagementService.getTasks(eq(null), eq(Pageable.builder().build()), any()))
-        .thenReturn(List.of(task1, task2));
+    lenient().when(userTaskManagementService.getTaskPage(eq(null), eq(Pageable.builder().build()), any()))
+        .thenReturn(new CursorPage<>(List.of(task1, task2), null));
+    lenient().when(userTaskManagementService.getInbox(eq(null), eq(Pageable.builder().build()), any()))
+        .thenReturn(new InboxResponse<>(List.of(task1, task2), 22L));
   }
 
   void mockGetTasksByProcessInstanceId() {
@@ -144,8 +159,8 @@ public abstract class BaseControllerTest {
         .suspended(false)
         .build();
     lenient().when(
-            userTaskManagementService.getTasks(eq("testProcessInstanceId"), eq(Pageable.builder().build()), any()))
-        .thenReturn(List.of(task));
+            userTaskManagementService.getTaskPage(eq("testProcessInstanceId"), eq(Pageable.builder().build()), any()))
+        .thenReturn(new CursorPage<>(List.of(task), null));
   }
 
   void mockClaimTaskById() {
@@ -185,6 +200,15 @@ public abstract class BaseControllerTest {
         .claimTaskById(eq("testId500"), any());
   }
 
+  void mockClaimTasks() {
+    lenient().when(userTaskManagementService.claimTasks(
+            eq(List.of("testId", "testId409", "testId404")), any()))
+        .thenReturn(List.of(
+            new ClaimTaskResponse("testId", ClaimStatus.CLAIMED),
+            new ClaimTaskResponse("testId409", ClaimStatus.ALREADY_ASSIGNED),
+            new ClaimTaskResponse("testId404", ClaimStatus.NOT_FOUND)));
+  }
+
   void mockCompleteTask() {
     var formData = FormDataDto.builder()
         .data(new LinkedHashMap<>(Map.of("testVar", "testValue")))
@@ -203,6 +227,37 @@ public abstract class BaseControllerTest {
             .build());
   }
 
+  void mockCompleteTaskWithNextTask() {
+    var formData = FormDataDto.builder()
+        .data(new LinkedHashMap<>(Map.of("testVar", "nextTask")))
+        .build();
+    var completedTask = CompletedTaskResponse.builder()
+        .id("taskIdToComplete")
+        .processInstanceId("process-instance")
+        .rootProcessInstanceId("root-process-instance")
+        .rootProcessInstanceEnded(false)
+        .build();
+    var nextTask = new SignableDataUserTaskResponse();
+    nextTask.setId("nextTaskId");
+    nextTask.setName("nextTaskName");
+    nextTask.setAssignee("testAssignee");
+    nextTask.setData(new LinkedHashMap<>(Map.of("nextVar", "nextValue")));
+
+    lenient()
+        .when(userTaskManagementService.completeTaskById(eq("taskIdToComplete"),
+            eq(formData), any()))
+        .thenReturn(completedTask);
+    lenient()
+        .when(userTaskManagementService.attachNextTask(eq(completedTask), any()))
+        .thenReturn(CompletedTaskResponse.builder()
+            .id("taskIdToComplete")
+            .processInstanceId("process-instance")
+            .rootProcessInstanceId("root-process-instance")
+            .rootProcessInstanceEnded(false)
+            .nextTask(nextTask)
+            .build());
+  }
+
   void mockSignOfficerTask() {
     var formData = FormDataDto.builder()
         .data(new LinkedHashMap<>(Map.of("testVar", "testValue")))
@@ -20,6 +20,7 @@ import com.epam.digital.data.platform.starter.errorhandling.BaseRestExceptionHan
 import com.epam.digital.data.platform.starter.localization.MessageResolver;
 import com.epam.digital.data.platform.usrtaskmgt.config.GeneralConfig;
 import com.epam.digital.data.platform.usrtaskmgt.exception.handler.RestExceptionHandler;
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelectionResponseBodyAdvice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -41,6 +42,6 @@ public class CustomMockMvcConfigurer implements MockMvcConfigurer {
     ((StandaloneMockMvcBuilder) builder)
         .setMessageConverters(new MappingJackson2HttpMessageConverter(jacksonBuilder.build()))
         .setControllerAdvice(new RestExceptionHandler(messageResolver),
-            new BaseRestExceptionHandler());
+            new BaseRestExceptionHandler(), new FieldSelectionResponseBodyAdvice());
   }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.etag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.EtagProperties;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TaskEtagFilterTest {
+
+  private static final byte[] BODY = "{\"id\":\"taskId\"}".getBytes(StandardCharsets.UTF_8);
+
+  private TaskEtagFilter taskEtagFilter;
+
+  @BeforeEach
+  void init() {
+    taskEtagFilter = new TaskEtagFilter(new EtagProperties());
+  }
+
+  @Test
+  void shouldAnswerMatchingConditionalRequestWithNotModified() throws Exception {
+    var first = execute(new MockHttpServletRequest("GET", "/api/task/taskId"));
+    var etag = first.getHeader(HttpHeaders.ETAG);
+
+    var request = new MockHttpServletRequest("GET", "/api/task/taskId");
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+    var second = execute(request);
+
+    assertThat(etag).isNotNull().doesNotStartWith("W/");
+    assertThat(first.getContentAsByteArray()).isEqualTo(BODY);
+    assertThat(second.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+    assertThat(second.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  void shouldAddEtagToTaskLists() throws Exception {
+    assertThat(execute(new MockHttpServletRequest("GET", "/api/task"))
+        .getHeader(HttpHeaders.ETAG)).isNotNull();
+    assertThat(execute(new MockHttpServletRequest("GET", "/api/task/lightweight"))
+        .getHeader(HttpHeaders.ETAG)).isNotNull();
+  }
+
+  @Test
+  void shouldNotFilterOtherEndpoints() throws Exception {
+    var longPoll = new MockHttpServletRequest("GET", "/api/task/lightweight");
+    longPoll.setParameter("waitTimeout", "1000");
+
+    assertThat(execute(longPoll).getHeader(HttpHeaders.ETAG)).isNull();
+    assertThat(execute(new MockHttpServletRequest("GET", "/api/task/count/stream"))
+        .getHeader(HttpHeaders.ETAG)).isNull();
+    assertThat(execute(new MockHttpServletRequest("GET", "/api/task/inbox"))
+        .getHeader(HttpHeaders.ETAG)).isNull();
+    assertThat(execute(new MockHttpServletRequest("POST", "/api/task/taskId/claim"))
+        .getHeader(HttpHeaders.ETAG)).isNull();
+  }
+
+  @Test
+  void shouldStreamNdjsonExportWithoutBuffering() throws Exception {
+    var request = new MockHttpServletRequest("GET", "/api/task");
+    request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE);
+    var response = new MockHttpServletResponse();
+    var flushedBody = new AtomicReference<byte[]>();
+    var exportServlet = new HttpServlet() {
+      @Override
+      protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+        res.getOutputStream().write(BODY);
+        res.flushBuffer();
+        flushedBody.set(response.getContentAsByteArray());
+      }
+    };
+
+    new MockFilterChain(exportServlet, taskEtagFilter).doFilter(request, response);
+
+    assertThat(flushedBody.get()).isEqualTo(BODY);
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+  }
+
+  @Test
+  void shouldNotFilterIfDisabled() throws Exception {
+    var properties = new EtagProperties();
+    properties.setEnabled(false);
+    taskEtagFilter = new TaskEtagFilter(properties);
+
+    assertThat(execute(new MockHttpServletRequest("GET", "/api/task/taskId"))
+        .getHeader(HttpHeaders.ETAG)).isNull();
+  }
+
+  private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+    var response = new MockHttpServletResponse();
+    taskEtagFilter.doFilter(request, response,
+        (req, res) -> res.getOutputStream().write(BODY));
+    return response;
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.config.GeneralConfig;
+import com.epam.digital.data.platform.usrtaskmgt.config.PaginationProperties;
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskExportProperties;
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.pagination.CursorPaginator;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class NdjsonTaskExporterTest {
+
+  @Mock
+  private UserTaskRemoteService userTaskRemoteService;
+
+  private List<UserTaskResponse> tasks;
+  private ObjectMapper objectMapper;
+  private SimpleMeterRegistry meterRegistry;
+  private NdjsonTaskExporter exporter;
+
+  @BeforeEach
+  void init() {
+    tasks = IntStream.range(0, 7)
+        .mapToObj(i -> UserTaskResponse.builder().id("task" + i).name("name" + i).build())
+        .collect(Collectors.toList());
+    when(userTaskRemoteService.getUserTasks(isNull(), eq("testuser"), any()))
+        .thenAnswer(invocation -> query(invocation.getArgument(2)));
+
+    var builder = Jackson2ObjectMapperBuilder.json();
+    new GeneralConfig().jackson2ObjectMapperBuilderCustomizer().customize(builder);
+    objectMapper = builder.build();
+    var paginationProperties = new PaginationProperties();
+    paginationProperties.setAnchorWindow(2);
+    var exportProperties = new TaskExportProperties();
+    exportProperties.setPageSize(3);
+    meterRegistry = new SimpleMeterRegistry();
+    exporter = new NdjsonTaskExporter(userTaskRemoteService,
+        new CursorPaginator(objectMapper, paginationProperties), exportProperties, objectMapper,
+        CurrentTraceContext.Default.create(), meterRegistry);
+  }
+
+  @Test
+  void shouldWriteEveryTaskAsSeparateLine() throws Exception {
+    var lines = export(Pageable.builder().build(), FieldSelection.all());
+
+    assertThat(lines).hasSize(7);
+    for (var i = 0; i < lines.size(); i++) {
+      var task = objectMapper.readValue(lines.get(i), UserTaskResponse.class);
+      assertThat(task.getId()).isEqualTo("task" + i);
+      assertThat(task.getName()).isEqualTo("name" + i);
+    }
+    verify(userTaskRemoteService, times(3)).getUserTasks(isNull(), eq("testuser"), any());
+    assertThat(meterRegistry.get(NdjsonTaskExporter.TASKS_COUNTER_NAME).counter().count())
+        .isEqualTo(7);
+    assertThat(meterRegistry.get(NdjsonTaskExporter.EXPORTS_COUNTER_NAME)
+        .tag("result", "completed").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldWriteRequestedNumberOfTasksFromFirstResult() throws Exception {
+    var lines = export(Pageable.builder().firstResult(2).maxResults(4).build(),
+        FieldSelection.all());
+
+    assertThat(lines).hasSize(4);
+    assertThat(objectMapper.readValue(lines.get(0), UserTaskResponse.class).getId())
+        .isEqualTo("task2");
+    assertThat(objectMapper.readValue(lines.get(3), UserTaskResponse.class).getId())
+        .isEqualTo("task5");
+  }
+
+  @Test
+  void shouldWriteOnlySelectedFields() throws Exception {
+    var lines = export(Pageable.builder().build(), FieldSelection.parse("id"));
+
+    assertThat(lines).hasSize(7)
+        .allSatisfy(line -> assertThat(objectMapper.readTree(line).fieldNames()).toIterable()
+            .containsExactly("id"));
+  }
+
+  @Test
+  void shouldStopPagingIfClientDisconnected() {
+    var body = exporter.export(null, "testuser", Pageable.builder().build(),
+        FieldSelection.all());
+    OutputStream disconnected = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+    };
+
+    assertThatThrownBy(() -> body.writeTo(disconnected)).isInstanceOf(IOException.class);
+
+    verify(userTaskRemoteService).getUserTasks(isNull(), eq("testuser"), any());
+    assertThat(meterRegistry.get(NdjsonTaskExporter.EXPORTS_COUNTER_NAME)
+        .tag("result", "aborted").counter().count()).isEqualTo(1);
+  }
+
+  private List<String> export(Pageable page, FieldSelection fields) throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    exporter.export(null, "testuser", page, fields).writeTo(outputStream);
+    var content = outputStream.toString(StandardCharsets.UTF_8);
+    assertThat(content).endsWith("\n");
+    return content.lines().collect(Collectors.toList());
+  }
+
+  private List<UserTaskResponse> query(Pageable page) {
+    var from = Math.min(Objects.requireNonNullElse(page.getFirstResult(), 0), tasks.size());
+    var to = Objects.isNull(page.getMaxResults()) ? tasks.size()
+        : Math.min(tasks.size(), from + page.getMaxResults());
+    return tasks.subList(from, to);
+  }
+}
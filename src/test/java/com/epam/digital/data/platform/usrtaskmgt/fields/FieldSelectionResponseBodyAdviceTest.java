@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.fields;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.GeneralConfig;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CompletedTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.InboxResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.SignableDataUserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.TaskBatchItemResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FieldSelectionResponseBodyAdviceTest {
+
+  private final FieldSelectionResponseBodyAdvice advice = new FieldSelectionResponseBodyAdvice();
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void init() {
+    var builder = Jackson2ObjectMapperBuilder.json();
+    new GeneralConfig().jackson2ObjectMapperBuilderCustomizer().customize(builder);
+    objectMapper = builder.build();
+  }
+
+  @Test
+  void shouldSerializeOnlySelectedFieldsOfTask() throws Exception {
+    var task = new SignableDataUserTaskResponse();
+    task.setId("testId");
+    task.setName("testName");
+    task.setData(Map.of("var", 1));
+
+    var json = write(task, "id, name");
+
+    assertThat(json.has("id")).isTrue();
+    assertThat(json.has("name")).isTrue();
+    assertThat(json.has("data")).isFalse();
+    assertThat(json.has("formVariables")).isFalse();
+  }
+
+  @Test
+  void shouldSerializeOnlySelectedFieldsOfEveryTaskOfList() throws Exception {
+    var tasks = List.of(UserTaskResponse.builder().id("id1").name("name1").build(),
+        UserTaskResponse.builder().id("id2").name("name2").build());
+
+    var json = write(tasks, "id");
+
+    assertThat(json).hasSize(2);
+    assertThat(json.get(0).fieldNames()).toIterable().containsExactly("id");
+    assertThat(json.get(1).fieldNames()).toIterable().containsExactly("id");
+  }
+
+  @Test
+  void shouldSerializeOnlySelectedFieldsOfEveryLightweightTaskOfInbox() throws Exception {
+    var inbox = new InboxResponse<>(List.of(new UserTaskLightweightResponse("id1", "user"),
+        new UserTaskLightweightResponse("id2", null)), 2);
+
+    var json = write(inbox, "id");
+
+    assertThat(json.get("count").asLong()).isEqualTo(2);
+    assertThat(json.get("tasks")).hasSize(2);
+    assertThat(json.get("tasks").get(0).fieldNames()).toIterable().containsExactly("id");
+    assertThat(json.get("tasks").get(1).fieldNames()).toIterable().containsExactly("id");
+  }
+
+  @Test
+  void shouldSerializeOnlySelectedFieldsOfTaskOfBatchItem() throws Exception {
+    var task = new SignableDataUserTaskResponse();
+    task.setId("testId");
+    task.setData(Map.of("var", 1));
+
+    var json = write(List.of(TaskBatchItemResponse.found(task)), "id");
+
+    assertThat(json.get(0).get("status").asText()).isEqualTo("FOUND");
+    assertThat(json.get(0).get("task").fieldNames()).toIterable().containsExactly("id");
+  }
+
+  @Test
+  void shouldNotFilterNestedTask() throws Exception {
+    var nextTask = new SignableDataUserTaskResponse();
+    nextTask.setId("nextId");
+    nextTask.setData(Map.of("var", 1));
+    var completedTask = CompletedTaskResponse.builder()
+        .id("testId")
+        .variables(Map.of())
+        .nextTask(nextTask)
+        .build();
+
+    var json = write(completedTask, "nextTask");
+
+    assertThat(json.has("variables")).isFalse();
+    assertThat(json.get("nextTask").has("data")).isTrue();
+  }
+
+  @Test
+  void shouldSerializeAllFieldsWithoutParameter() throws Exception {
+    var task = UserTaskResponse.builder().id("testId").build();
+
+    var json = write(task, null);
+
+    assertThat(json.has("id")).isTrue();
+    assertThat(json.has("processInstanceId")).isTrue();
+  }
+
+  private JsonNode write(Object body, String fields) throws Exception {
+    var request = new MockHttpServletRequest("GET", "/api/task");
+    if (fields != null) {
+      request.setParameter(FieldSelection.PARAMETER_NAME, fields);
+    }
+    var result = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+        MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request),
+        new ServletServerHttpResponse(new MockHttpServletResponse()));
+    var container = (MappingJacksonValue) result;
+    var writer = container.getFilters() == null ? objectMapper.writer()
+        : objectMapper.writer(container.getFilters());
+    return objectMapper.readTree(writer.writeValueAsString(container.getValue()));
+  }
+}
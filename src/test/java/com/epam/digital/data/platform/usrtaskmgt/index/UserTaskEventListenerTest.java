@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.index;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.epam.digital.data.platform.usrtaskmgt.index.UserTaskEvent.EventType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+@SpringBootTest(
+    classes = {KafkaAutoConfiguration.class, JacksonAutoConfiguration.class,
+        UserTaskEventListener.class},
+    properties = {
+        "spring.application.name=user-task-management",
+        "user-task-management.task-index.enabled=true",
+        "user-task-management.task-index.auto-offset-reset=earliest"
+    })
+@EmbeddedKafka(topics = "bpm-user-task-events", partitions = 1,
+    bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class UserTaskEventListenerTest {
+
+  @MockBean
+  private UserTaskIndex userTaskIndex;
+  @Autowired
+  private KafkaTemplate<String, String> kafkaTemplate;
+
+  @Test
+  void shouldApplyConsumedEventToIndex() {
+    kafkaTemplate.send("bpm-user-task-events", "malformed");
+    kafkaTemplate.send("bpm-user-task-events",
+        "{\"type\":\"COMPLETED\",\"id\":\"taskId\",\"unknownField\":true}");
+
+    verify(userTaskIndex, timeout(30000)).onEvent(argThat(
+        event -> event.getType() == EventType.COMPLETED && "taskId".equals(event.getId())));
+  }
+}
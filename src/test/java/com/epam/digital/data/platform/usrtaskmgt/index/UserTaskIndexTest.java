@@ -0,0 +1,216 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskIndexProperties;
+import com.epam.digital.data.platform.usrtaskmgt.index.UserTaskEvent.EventType;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserTaskIndexTest {
+
+  private static final List<String> AUTHORITIES = List.of("ROLE_officer");
+
+  @Mock
+  private UserTaskRemoteService userTaskRemoteService;
+
+  private ContextAwareExecutor executor;
+  private UserTaskIndex userTaskIndex;
+
+  @BeforeEach
+  void init() {
+    executor = new ContextAwareExecutor("test", Executors.newFixedThreadPool(2),
+        ThreadLocalCurrentTraceContext.create());
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (userTaskIndex != null) {
+      userTaskIndex.shutdown();
+    }
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldServeQueriesFromIndexOnceItIsWarm() {
+    when(userTaskRemoteService.getUserTasks(isNull(), eq("user"), any())).thenReturn(List.of(
+        task("task1", "B", "user", 1), task("task2", "A", null, 2)));
+    userTaskIndex = enabledIndex();
+    awaitWarm("user");
+
+    assertThat(userTaskIndex.countTasks("user", AUTHORITIES)).contains(new CountResponse(2L));
+    assertThat(taskIds(userTaskIndex.getTasks("user", AUTHORITIES, null,
+        Pageable.builder().sortBy("name").sortOrder("asc").build())))
+        .containsExactly("task2", "task1");
+    assertThat(taskIds(userTaskIndex.getTasks("user", AUTHORITIES, null,
+        Pageable.builder().sortBy("created").sortOrder("desc").maxResults(1).build())))
+        .containsExactly("task2");
+    assertThat(userTaskIndex.getLightweightTasks("user", AUTHORITIES, null,
+        Pageable.builder().build())).hasValueSatisfying(tasks -> assertThat(tasks).hasSize(2));
+  }
+
+  @Test
+  void shouldApplyTaskLifecycleEvents() {
+    when(userTaskRemoteService.getUserTasks(isNull(), eq("user"), any())).thenReturn(List.of(
+        task("task1", "B", "user", 1), task("task2", "A", null, 2)));
+    userTaskIndex = enabledIndex();
+    awaitWarm("user");
+
+    userTaskIndex.onEvent(UserTaskEvent.builder().type(EventType.COMPLETED).id("task1").build());
+    userTaskIndex.onEvent(UserTaskEvent.builder().type(EventType.CREATED).id("task3")
+        .name("C").candidateGroups(Set.of("officer")).build());
+    userTaskIndex.onEvent(UserTaskEvent.builder().type(EventType.CREATED).id("task4")
+        .name("D").candidateGroups(Set.of("citizen")).build());
+    userTaskIndex.onEvent(UserTaskEvent.builder().type(EventType.ASSIGNED).id("task2")
+        .name("A").assignee("anotherUser").build());
+
+    assertThat(taskIds(userTaskIndex.getTasks("user", AUTHORITIES, null,
+        Pageable.builder().build()))).containsExactly("task3");
+  }
+
+  @Test
+  void shouldFallBackWhenUnassignedTaskVisibilityIsUnknown() {
+    when(userTaskRemoteService.getUserTasks(isNull(), eq("user"), any())).thenReturn(List.of());
+    userTaskIndex = enabledIndex();
+    awaitWarm("user");
+
+    userTaskIndex.onEvent(UserTaskEvent.builder().type(EventType.CREATED).id("task1").build());
+
+    assertThat(userTaskIndex.countTasks("user", AUTHORITIES)).isEmpty();
+  }
+
+  @Test
+  void shouldNotServeQueriesSortedByUnsupportedField() {
+    when(userTaskRemoteService.getUserTasks(isNull(), eq("user"), any())).thenReturn(List.of());
+    userTaskIndex = enabledIndex();
+    awaitWarm("user");
+
+    assertThat(userTaskIndex.getTasks("user", AUTHORITIES, null,
+        Pageable.builder().sortBy("priority").build())).isEmpty();
+    assertThat(userTaskIndex.getLightweightTasks("user", AUTHORITIES, "rootProcessInstanceId",
+        Pageable.builder().build())).isEmpty();
+  }
+
+  @Test
+  void shouldGoColdUntilNextRequestWhenAccessTokenIsRejected() {
+    var properties = new TaskIndexProperties();
+    properties.setEnabled(true);
+    properties.setReconciliationInterval(Duration.ofMillis(50));
+    var meterRegistry = new SimpleMeterRegistry();
+    when(userTaskRemoteService.getUserTasks(isNull(), eq("user"), any()))
+        .thenReturn(List.of(task("task1", "A", "user", 1)))
+        .thenThrow(unauthorized())
+        .thenReturn(List.of(task("task1", "A", "user", 1), task("task2", "B", "user", 2)));
+    userTaskIndex = new UserTaskIndex(userTaskRemoteService, properties, executor,
+        ThreadLocalCurrentTraceContext.create(), meterRegistry);
+    awaitWarm("user");
+
+    verify(userTaskRemoteService, after(500).times(2)).getUserTasks(isNull(), eq("user"), any());
+    assertThat(meterRegistry.get(UserTaskIndex.RECONCILIATIONS_COUNTER_NAME)
+        .tag("result", "unauthorized").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(UserTaskIndex.WARM_USERS_GAUGE_NAME).gauge().value())
+        .isZero();
+
+    awaitWarm("user");
+    assertThat(userTaskIndex.countTasks("user", AUTHORITIES)).contains(new CountResponse(2L));
+  }
+
+  @Test
+  void shouldNotServeQueriesWhenDisabled() {
+    userTaskIndex = new UserTaskIndex(userTaskRemoteService, new TaskIndexProperties(), executor,
+        ThreadLocalCurrentTraceContext.create(), new SimpleMeterRegistry());
+
+    assertThat(userTaskIndex.countTasks("user", AUTHORITIES)).isEmpty();
+    assertThat(userTaskIndex.getTasks("user", AUTHORITIES, null, Pageable.builder().build()))
+        .isEmpty();
+    verifyNoInteractions(userTaskRemoteService);
+  }
+
+  private UserTaskIndex enabledIndex() {
+    var properties = new TaskIndexProperties();
+    properties.setEnabled(true);
+    return new UserTaskIndex(userTaskRemoteService, properties, executor,
+        ThreadLocalCurrentTraceContext.create(), new SimpleMeterRegistry());
+  }
+
+  private void awaitWarm(String userName) {
+    var deadline = System.currentTimeMillis() + 5000;
+    while (userTaskIndex.countTasks(userName, AUTHORITIES).isEmpty()) {
+      assertThat(System.currentTimeMillis()).isLessThan(deadline);
+      Thread.yield();
+    }
+  }
+
+  private static FeignException unauthorized() {
+    var request = Request.create(HttpMethod.GET, "/api/task", Map.of(), null,
+        StandardCharsets.UTF_8, null);
+    return FeignException.errorStatus("UserTaskRemoteService#getUserTasks", Response.builder()
+        .status(401)
+        .reason("Unauthorized")
+        .request(request)
+        .headers(Map.of())
+        .build());
+  }
+
+  private static List<String> taskIds(Optional<List<UserTaskResponse>> tasks) {
+    assertThat(tasks).isPresent();
+    return tasks.get().stream().map(UserTaskResponse::getId).collect(Collectors.toList());
+  }
+
+  private static UserTaskResponse task(String id, String name, String assignee, int day) {
+    return UserTaskResponse.builder()
+        .id(id)
+        .name(name)
+        .assignee(assignee)
+        .created(LocalDateTime.of(2023, 1, day, 0, 0))
+        .build();
+  }
+}
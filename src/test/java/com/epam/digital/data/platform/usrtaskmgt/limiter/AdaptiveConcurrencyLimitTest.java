@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.ConcurrencyLimitProperties.Group;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+  private static final long FAST_RTT = TimeUnit.MILLISECONDS.toNanos(20);
+  private static final long SLOW_RTT = TimeUnit.MILLISECONDS.toNanos(200);
+
+  private AdaptiveConcurrencyLimit limit;
+
+  @BeforeEach
+  void init() {
+    var settings = new Group(10, 2, 100);
+    settings.setWindowSize(10);
+    limit = new AdaptiveConcurrencyLimit(settings);
+  }
+
+  @Test
+  void shouldRejectRequestsAboveLimit() {
+    for (var i = 0; i < 10; i++) {
+      assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    assertThat(limit.tryAcquire()).isFalse();
+    assertThat(limit.getInFlight()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldIncreaseLimitWhileLatencyIsStable() {
+    runWindows(5, FAST_RTT);
+
+    assertThat(limit.getLimit()).isGreaterThan(10);
+  }
+
+  @Test
+  void shouldDecreaseLimitWhenLatencyGrows() {
+    runWindows(5, FAST_RTT);
+    var learnedLimit = limit.getLimit();
+
+    runWindows(10, SLOW_RTT);
+
+    assertThat(limit.getLimit()).isLessThan(learnedLimit);
+  }
+
+  @Test
+  void shouldBackOffOnDownstreamOverload() {
+    limit.tryAcquire();
+
+    limit.onOverload();
+
+    assertThat(limit.getLimit()).isEqualTo(9);
+    assertThat(limit.getInFlight()).isZero();
+  }
+
+  private void runWindows(int windows, long rttNanos) {
+    for (var window = 0; window < windows; window++) {
+      var acquired = 0;
+      while (acquired < limit.getLimit() && limit.tryAcquire()) {
+        acquired++;
+      }
+      for (var i = 0; i < acquired; i++) {
+        limit.onSuccess(rttNanos);
+      }
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.epam.digital.data.platform.usrtaskmgt.config.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ConcurrencyLimitFilterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ConcurrencyLimitFilter filter;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new ConcurrencyLimitFilter(new ConcurrencyLimitProperties(),
+        mock(MessageResolver.class), new ObjectMapper(), meterRegistry);
+  }
+
+  @Test
+  void shouldNotDecreaseLimitWhenClientTimeBudgetExpired() throws Exception {
+    for (var i = 0; i < 20; i++) {
+      get((request, response) ->
+          ((MockHttpServletResponse) response).setStatus(HttpStatus.GATEWAY_TIMEOUT.value()));
+    }
+
+    assertThat(readLimit()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotDecreaseLimitOnTaskStreamConnectionCap() throws Exception {
+    get((request, response) ->
+        ((MockHttpServletResponse) response).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value()));
+
+    assertThat(readLimit()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldDecreaseLimitOnDownstreamOverload() throws Exception {
+    get((request, response) -> {
+      RequestContextHolder.setRequestAttributes(
+          new ServletRequestAttributes((MockHttpServletRequest) request));
+      try {
+        DownstreamOverload.signal();
+      } finally {
+        RequestContextHolder.resetRequestAttributes();
+      }
+      ((MockHttpServletResponse) response).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    });
+
+    assertThat(readLimit()).isEqualTo(45);
+  }
+
+  private void get(FilterChain filterChain) throws Exception {
+    var request = new MockHttpServletRequest("GET", "/api/task");
+    filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+  }
+
+  private double readLimit() {
+    return meterRegistry.get(ConcurrencyLimitFilter.LIMIT_GAUGE_NAME).tag("group", "read").gauge()
+        .value();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.longpoll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.config.LongPollProperties;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskWaitRegistryTest {
+
+  private static final Pageable PAGE = Pageable.builder().build();
+
+  @Mock
+  private UserTaskRemoteService userTaskRemoteService;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TaskWaitRegistry taskWaitRegistry;
+
+  @BeforeEach
+  void init() {
+    var properties = new LongPollProperties();
+    properties.setInitialInterval(Duration.ofMillis(20));
+    properties.setMaxInterval(Duration.ofMillis(50));
+    meterRegistry = new SimpleMeterRegistry();
+    taskWaitRegistry = new TaskWaitRegistry(userTaskRemoteService, properties,
+        ThreadLocalCurrentTraceContext.create(), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    taskWaitRegistry.shutdown();
+  }
+
+  @Test
+  void shouldCompleteAllWaitersWithTasksFoundByOnePoll() throws Exception {
+    var task = new UserTaskLightweightResponse();
+    task.setId("taskId");
+    when(userTaskRemoteService.getLightweightUserTasks(eq("rootProcessInstanceId"),
+        eq("user"), eq(PAGE)))
+        .thenReturn(List.of(), List.of(), List.of(task));
+
+    var first = taskWaitRegistry.waitForLightweightTasks("rootProcessInstanceId", "user", PAGE,
+        Duration.ofSeconds(5));
+    var second = taskWaitRegistry.waitForLightweightTasks("rootProcessInstanceId", "user", PAGE,
+        Duration.ofSeconds(5));
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(task);
+    assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(task);
+    verify(userTaskRemoteService, atMost(3)).getLightweightUserTasks(any(), any(), any());
+    assertThat(meterRegistry.get(TaskWaitRegistry.WAITERS_GAUGE_NAME).gauge().value())
+        .isZero();
+  }
+
+  @Test
+  void shouldCompleteWaiterWithEmptyListOnTimeout() throws Exception {
+    when(userTaskRemoteService.getLightweightUserTasks(any(), any(), any()))
+        .thenReturn(List.of());
+
+    var waiter = taskWaitRegistry.waitForLightweightTasks("rootProcessInstanceId", "user", PAGE,
+        Duration.ofMillis(100));
+
+    assertThat(waiter.get(5, TimeUnit.SECONDS)).isEmpty();
+  }
+
+  @Test
+  void shouldShrinkTimeoutToMaximum() throws Exception {
+    var properties = new LongPollProperties();
+    properties.setMaxTimeout(Duration.ofMillis(100));
+    var registry = new TaskWaitRegistry(userTaskRemoteService, properties,
+        ThreadLocalCurrentTraceContext.create(), meterRegistry);
+    when(userTaskRemoteService.getLightweightUserTasks(any(), any(), any()))
+        .thenReturn(List.of());
+
+    try {
+      var waiter = registry.waitForLightweightTasks(null, "user", PAGE, Duration.ofMinutes(10));
+
+      assertThat(waiter.get(5, TimeUnit.SECONDS)).isEmpty();
+    } finally {
+      registry.shutdown();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.usrtaskmgt.metrics.TaskCompletionMetrics.Endpoint;
+import com.epam.digital.data.platform.usrtaskmgt.metrics.TaskCompletionMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskCompletionMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private TaskCompletionMetrics taskCompletionMetrics;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    taskCompletionMetrics = new TaskCompletionMetrics(meterRegistry);
+  }
+
+  @Test
+  void shouldRecordSuccessfulStage() {
+    var result = taskCompletionMetrics.record(Endpoint.OFFICER_SIGN, Stage.TASK_FETCH,
+        () -> "task");
+
+    assertThat(result).isEqualTo("task");
+    var timer = meterRegistry.get(TaskCompletionMetrics.STAGE_TIMER_NAME)
+        .tag("endpoint", "officer-sign")
+        .tag("stage", "task-fetch")
+        .tag("outcome", "success")
+        .tag("exception", "none")
+        .timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRecordFailedStageAndRethrowException() {
+    Runnable action = () -> {
+      throw new IllegalStateException();
+    };
+
+    assertThatThrownBy(() -> taskCompletionMetrics.record(Endpoint.SAVE, Stage.FORM_VALIDATION,
+        action)).isInstanceOf(IllegalStateException.class);
+
+    var timer = meterRegistry.get(TaskCompletionMetrics.STAGE_TIMER_NAME)
+        .tag("endpoint", "save")
+        .tag("stage", "form-validation")
+        .tag("outcome", "error")
+        .tag("exception", "IllegalStateException")
+        .timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+}
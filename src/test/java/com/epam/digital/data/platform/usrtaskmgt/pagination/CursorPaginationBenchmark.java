@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.pagination;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.PaginationProperties;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CursorPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency of the N-th task page requested by offset and by cursor from a stub business process
+ * management service with 100 000 tasks. The stub scans the skipped tasks like offset pagination
+ * of the database does, so the benchmark shows the cost of the deep pages and the overhead of the
+ * cursor anchoring.
+ * <p>
+ * Is run manually from the IDE or with the test classpath:
+ * {@code java -cp <test classpath> ...pagination.CursorPaginationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorPaginationBenchmark {
+
+  private static final int TASK_COUNT = 100_000;
+  private static final int PAGE_SIZE = 20;
+
+  @Param({"0", "100", "1000", "4999"})
+  private int pageNumber;
+
+  private List<String> tasks;
+  private CursorPaginator cursorPaginator;
+  private Function<Pageable, List<String>> stubBpms;
+  private Pageable offsetPage;
+  private Pageable cursorPage;
+
+  @Setup
+  public void setUp() {
+    tasks = new LinkedList<>();
+    for (var i = 0; i < TASK_COUNT; i++) {
+      tasks.add(String.format("task%06d", i));
+    }
+    cursorPaginator = new CursorPaginator(new ObjectMapper(), new PaginationProperties());
+    stubBpms = this::query;
+
+    var offset = pageNumber * PAGE_SIZE;
+    offsetPage = Pageable.builder().firstResult(offset).maxResults(PAGE_SIZE).build();
+    if (pageNumber == 0) {
+      cursorPage = offsetPage;
+      return;
+    }
+    var previousPage = Pageable.builder().firstResult(offset - PAGE_SIZE).maxResults(PAGE_SIZE)
+        .build();
+    var cursor = cursorPaginator.getPage(previousPage, stubBpms, Function.identity())
+        .getNextCursor();
+    cursorPage = Pageable.builder().cursor(cursor).maxResults(PAGE_SIZE).build();
+  }
+
+  @Benchmark
+  public CursorPage<String> pageByOffset() {
+    return cursorPaginator.getPage(offsetPage, stubBpms, Function.identity());
+  }
+
+  @Benchmark
+  public CursorPage<String> pageByCursor() {
+    return cursorPaginator.getPage(cursorPage, stubBpms, Function.identity());
+  }
+
+  private List<String> query(Pageable page) {
+    var firstResult = Objects.requireNonNullElse(page.getFirstResult(), 0);
+    var maxResults = Objects.requireNonNullElse(page.getMaxResults(), TASK_COUNT);
+    var iterator = tasks.iterator();
+    for (var i = 0; i < firstResult && iterator.hasNext(); i++) {
+      iterator.next();
+    }
+    var result = new ArrayList<String>(Math.min(maxResults, PAGE_SIZE * 3));
+    while (iterator.hasNext() && result.size() < maxResults) {
+      result.add(iterator.next());
+    }
+    return result;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(CursorPaginationBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
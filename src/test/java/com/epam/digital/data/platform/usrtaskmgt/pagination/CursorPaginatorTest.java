@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.PaginationProperties;
+import com.epam.digital.data.platform.usrtaskmgt.exception.InvalidCursorException;
+import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CursorPaginatorTest {
+
+  private List<String> tasks;
+  private CursorPaginator cursorPaginator;
+
+  @BeforeEach
+  void init() {
+    tasks = IntStream.range(0, 10).mapToObj(i -> "task" + i)
+        .collect(Collectors.toCollection(ArrayList::new));
+    var properties = new PaginationProperties();
+    properties.setAnchorWindow(2);
+    cursorPaginator = new CursorPaginator(new ObjectMapper(), properties);
+  }
+
+  @Test
+  void shouldReturnNextCursorOfFullPage() {
+    var page = cursorPaginator.getPage(page(null, 4), query(), Function.identity());
+
+    assertThat(page.getTasks()).containsExactly("task0", "task1", "task2", "task3");
+    assertThat(page.getNextCursor()).isNotNull();
+  }
+
+  @Test
+  void shouldNotReturnNextCursorOfLastPage() {
+    var page = cursorPaginator.getPage(Pageable.builder().firstResult(8).maxResults(4).build(),
+        query(), Function.identity());
+
+    assertThat(page.getTasks()).containsExactly("task8", "task9");
+    assertThat(page.getNextCursor()).isNull();
+  }
+
+  @Test
+  void shouldPageThroughAllTasksByCursor() {
+    var first = cursorPaginator.getPage(page(null, 4), query(), Function.identity());
+    var second = cursorPaginator.getPage(page(first.getNextCursor(), 4), query(),
+        Function.identity());
+    var third = cursorPaginator.getPage(page(second.getNextCursor(), 4), query(),
+        Function.identity());
+
+    assertThat(second.getTasks()).containsExactly("task4", "task5", "task6", "task7");
+    assertThat(third.getTasks()).containsExactly("task8", "task9");
+    assertThat(third.getNextCursor()).isNull();
+  }
+
+  @Test
+  void shouldNotSkipTasksIfPreviousTasksWereCompleted() {
+    var first = cursorPaginator.getPage(page(null, 4), query(), Function.identity());
+    tasks.remove("task0");
+    tasks.remove("task1");
+
+    var second = cursorPaginator.getPage(page(first.getNextCursor(), 4), query(),
+        Function.identity());
+
+    assertThat(second.getTasks()).containsExactly("task4", "task5", "task6", "task7");
+  }
+
+  @Test
+  void shouldNotRepeatTasksIfPreviousTasksWereCreated() {
+    var first = cursorPaginator.getPage(page(null, 4), query(), Function.identity());
+    tasks.addAll(0, List.of("new0", "new1", "new2", "new3"));
+
+    var second = cursorPaginator.getPage(page(first.getNextCursor(), 4), query(),
+        Function.identity());
+
+    assertThat(second.getTasks()).containsExactly("task4", "task5", "task6", "task7");
+  }
+
+  @Test
+  void shouldStartAtPositionOfLastTaskIfItWasCompleted() {
+    var first = cursorPaginator.getPage(page(null, 4), query(), Function.identity());
+    tasks.remove("task3");
+
+    var second = cursorPaginator.getPage(page(first.getNextCursor(), 4), query(),
+        Function.identity());
+
+    assertThat(second.getTasks()).containsExactly("task4", "task5", "task6", "task7");
+  }
+
+  @Test
+  void shouldThrowExceptionIfCursorIsInvalid() {
+    assertThatThrownBy(() -> cursorPaginator.getPage(page("not-a-cursor", 4), query(),
+        Function.identity()))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+  private Function<Pageable, List<String>> query() {
+    return page -> {
+      var from = Math.min(Objects.requireNonNullElse(page.getFirstResult(), 0), tasks.size());
+      var to = Objects.isNull(page.getMaxResults()) ? tasks.size()
+          : Math.min(tasks.size(), from + page.getMaxResults());
+      return new ArrayList<>(tasks.subList(from, to));
+    };
+  }
+
+  private static Pageable page(String cursor, int maxResults) {
+    return Pageable.builder().cursor(cursor).maxResults(maxResults).build();
+  }
+}
@@ -2,12 +2,29 @@ package com.epam.digital.data.platform.usrtaskmgt.remote.impl;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.epam.digital.data.platform.bpms.api.dto.DdmTaskQueryDto;
 import com.epam.digital.data.platform.bpms.client.TaskRestClient;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry;
+import com.epam.digital.data.platform.usrtaskmgt.cache.TaskSnapshotCache;
+import com.epam.digital.data.platform.usrtaskmgt.config.BulkheadProperties;
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskSnapshotCacheProperties;
+import com.epam.digital.data.platform.usrtaskmgt.config.RequestHedgingProperties;
 import com.epam.digital.data.platform.usrtaskmgt.mapper.UserTaskDtoMapper;
 import com.epam.digital.data.platform.usrtaskmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.SignableDataUserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.remote.support.RequestCoalescer;
+import com.epam.digital.data.platform.usrtaskmgt.remote.support.RequestHedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
@@ -24,6 +41,16 @@ class UserTaskRemoteServiceImplTest {
   private TaskRestClient client;
   @Spy
   private UserTaskDtoMapper userTaskDtoMapper = Mappers.getMapper(UserTaskDtoMapper.class);
+  @Spy
+  private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry(), true);
+  @Mock
+  private TaskSnapshotCache taskSnapshotCache;
+  @Spy
+  private BulkheadRegistry bulkheadRegistry = new BulkheadRegistry(new BulkheadProperties(),
+      new SimpleMeterRegistry());
+  @Spy
+  private RequestHedger requestHedger = new RequestHedger(disabledHedgingProperties(), null,
+      new SimpleMeterRegistry());
   @InjectMocks
   private UserTaskRemoteServiceImpl service;
 
@@ -50,4 +77,82 @@ class UserTaskRemoteServiceImplTest {
     var ddmTaskQueryDto = captor.getValue();
     assertThat(ddmTaskQueryDto.getRootProcessInstanceId()).isEqualTo(rootProcessInstanceId);
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldReturnCopyOfCachedTaskSnapshot() {
+    var snapshot = new SignableDataUserTaskResponse();
+    snapshot.setId("taskId");
+    snapshot.setAssignee("assignee");
+    when(taskSnapshotCache.get("taskId", "assignee")).thenReturn(Optional.of(snapshot));
+
+    var result = service.getUserTaskById("taskId", "assignee");
+
+    assertThat(result).isEqualTo(snapshot);
+    assertThat(result).isNotSameAs(snapshot);
+    verify(client, never()).getTaskById(any());
+  }
+
+  @Test
+  void shouldNotCoalesceTaskReadsOfDifferentUsers() {
+    var bothRequested = new CountDownLatch(2);
+    when(client.getTaskById("taskId")).thenAnswer(invocation -> {
+      bothRequested.countDown();
+      bothRequested.await(5, TimeUnit.SECONDS);
+      return null;
+    });
+
+    var first = CompletableFuture.runAsync(() -> service.getUserTaskById("taskId", "user1"));
+    var second = CompletableFuture.runAsync(() -> service.getUserTaskById("taskId", "user2"));
+    CompletableFuture.allOf(first, second).join();
+
+    assertThat(bothRequested.getCount()).isZero();
+    verify(client, times(2)).getTaskById("taskId");
+  }
+
+  @Test
+  void shouldReadUnassignedTaskFromBpmsForEveryUser() {
+    var task = new SignableDataUserTaskResponse();
+    task.setId("taskId");
+    doReturn(task).when(userTaskDtoMapper).toSignableDataUserTaskDto(any());
+    var cachingService = new UserTaskRemoteServiceImpl(client, userTaskDtoMapper,
+        requestCoalescer, new TaskSnapshotCache(new TaskSnapshotCacheProperties(), null,
+        new SimpleMeterRegistry()), bulkheadRegistry, requestHedger);
+
+    cachingService.getUserTaskById("taskId", "user1");
+    cachingService.getUserTaskById("taskId", "user2");
+    cachingService.getUserTaskById("taskId", "user1");
+
+    verify(client, times(3)).getTaskById("taskId");
+  }
+
+  @Test
+  void shouldServeCachedSnapshotToAssigneeOnly() {
+    var task = new SignableDataUserTaskResponse();
+    task.setId("taskId");
+    task.setAssignee("user1");
+    doReturn(task).when(userTaskDtoMapper).toSignableDataUserTaskDto(any());
+    var cachingService = new UserTaskRemoteServiceImpl(client, userTaskDtoMapper,
+        requestCoalescer, new TaskSnapshotCache(new TaskSnapshotCacheProperties(), null,
+        new SimpleMeterRegistry()), bulkheadRegistry, requestHedger);
+
+    cachingService.getUserTaskById("taskId", "user1");
+    cachingService.getUserTaskById("taskId", "user2");
+    cachingService.getUserTaskById("taskId", "user1");
+
+    verify(client, times(2)).getTaskById("taskId");
+  }
+
+  @Test
+  void shouldEvictTaskSnapshotOnClaim() {
+    service.assignUserTask("taskId", "assignee");
+
+    verify(client).claimTaskById(any(), any());
+    verify(taskSnapshotCache).evict("taskId");
+  }
+
+  private static RequestHedgingProperties disabledHedgingProperties() {
+    var properties = new RequestHedgingProperties();
+    properties.setEnabled(false);
+    return properties;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.remote.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.epam.digital.data.platform.usrtaskmgt.config.HttpClientProperties.Downstream;
+import com.epam.digital.data.platform.usrtaskmgt.deadline.Deadline;
+import com.epam.digital.data.platform.usrtaskmgt.exception.DeadlineExceededException;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class DownstreamRoutingClientTest {
+
+  private Client bpmsDelegate;
+  private Client otherDelegate;
+  private DownstreamRoutingClient routingClient;
+
+  @BeforeEach
+  void init() {
+    bpmsDelegate = mock(Client.class);
+    otherDelegate = mock(Client.class);
+    var bpmsSettings = new Downstream();
+    bpmsSettings.setReadTimeout(Duration.ofSeconds(3));
+    var bpms = new DownstreamHttpClient("bpms", "http://bpms:8080", bpmsSettings, bpmsDelegate,
+        mock(Closeable.class));
+    var other = new DownstreamHttpClient("other", null, new Downstream(), otherDelegate,
+        mock(Closeable.class));
+    routingClient = new DownstreamRoutingClient(List.of(bpms), other);
+  }
+
+  @AfterEach
+  void tearDown() {
+    Deadline.set(null);
+  }
+
+  @Test
+  void shouldRouteRequestToDownstreamWithItsReadTimeout() throws Exception {
+    var options = new Options(1, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+
+    routingClient.execute(request("http://bpms:8080/api/task/1"), options);
+
+    var optionsCaptor = ArgumentCaptor.forClass(Options.class);
+    verify(bpmsDelegate).execute(any(), optionsCaptor.capture());
+    assertThat(optionsCaptor.getValue().connectTimeoutMillis()).isEqualTo(1000);
+    assertThat(optionsCaptor.getValue().readTimeoutMillis()).isEqualTo(3000);
+    verifyNoInteractions(otherDelegate);
+  }
+
+  @Test
+  void shouldRouteUnknownServiceRequestToFallback() throws Exception {
+    var options = new Options(1, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+
+    routingClient.execute(request("http://ceph:8080/bucket"), options);
+
+    verify(otherDelegate).execute(any(), eq(options));
+    verifyNoInteractions(bpmsDelegate);
+  }
+
+  @Test
+  void shouldNotRouteRequestToDownstreamWithBaseUrlPrefix() throws Exception {
+    var options = new Options(1, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+
+    routingClient.execute(request("http://bpms:80801/api/task/1"), options);
+
+    verify(otherDelegate).execute(any(), eq(options));
+    verifyNoInteractions(bpmsDelegate);
+  }
+
+  @Test
+  void shouldRouteRequestToDownstreamByBaseUrlBoundary() {
+    var bpmsAdmin = new DownstreamHttpClient("bpms-admin", "http://bpms-admin/", new Downstream(),
+        mock(Client.class), mock(Closeable.class));
+    var bpms = new DownstreamHttpClient("bpms", "http://bpms", new Downstream(),
+        mock(Client.class), mock(Closeable.class));
+    var fallback = new DownstreamHttpClient("other", null, new Downstream(), mock(Client.class),
+        mock(Closeable.class));
+    var client = new DownstreamRoutingClient(List.of(bpms, bpmsAdmin), fallback);
+
+    assertThat(client.route("http://bpms")).isSameAs(bpms);
+    assertThat(client.route("http://bpms/api/task")).isSameAs(bpms);
+    assertThat(client.route("http://bpms?id=1")).isSameAs(bpms);
+    assertThat(client.route("http://bpms-admin/api/task")).isSameAs(bpmsAdmin);
+    assertThat(client.route("http://bpmsadmin/api/task")).isSameAs(fallback);
+  }
+
+  @Test
+  void shouldShrinkTimeoutsToRemainingRequestBudget() throws Exception {
+    var options = new Options(1, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+    Deadline.set(Deadline.after(Duration.ofMillis(500)));
+
+    routingClient.execute(request("http://bpms:8080/api/task/1"), options);
+
+    var optionsCaptor = ArgumentCaptor.forClass(Options.class);
+    verify(bpmsDelegate).execute(any(), optionsCaptor.capture());
+    assertThat(optionsCaptor.getValue().connectTimeoutMillis()).isLessThanOrEqualTo(500);
+    assertThat(optionsCaptor.getValue().readTimeoutMillis()).isLessThanOrEqualTo(500);
+  }
+
+  @Test
+  void shouldFailFastWhenRequestDeadlineHasPassed() {
+    var options = new Options(1, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+    Deadline.set(Deadline.after(Duration.ofMillis(-1)));
+
+    assertThatThrownBy(() -> routingClient.execute(request("http://bpms:8080/api/task/1"), options))
+        .isInstanceOf(DeadlineExceededException.class);
+    verifyNoInteractions(bpmsDelegate);
+  }
+
+  private static Request request(String url) {
+    return Request.create(HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, null);
+  }
+}
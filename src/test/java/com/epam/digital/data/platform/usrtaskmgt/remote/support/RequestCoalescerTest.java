@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.remote.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private RequestCoalescer requestCoalescer;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    requestCoalescer = new RequestCoalescer(meterRegistry, true);
+  }
+
+  @Test
+  void shouldShareResultOfInFlightCall() throws Exception {
+    var calls = new AtomicInteger();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+
+    var leader = CompletableFuture.supplyAsync(() -> requestCoalescer.execute("op", List.of("id"),
+        () -> {
+          calls.incrementAndGet();
+          started.countDown();
+          await(release);
+          return "result";
+        }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    var follower = CompletableFuture.supplyAsync(
+        () -> requestCoalescer.execute("op", List.of("id"), () -> {
+          calls.incrementAndGet();
+          return "other result";
+        }));
+    while (meterRegistry.find(RequestCoalescer.CALLS_COUNTER_NAME).tag("role", "follower")
+        .counter() == null) {
+      Thread.sleep(10);
+    }
+    release.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotShareResultOfCompletedCall() {
+    var calls = new AtomicInteger();
+
+    requestCoalescer.execute("op", List.of("id"), calls::incrementAndGet);
+    requestCoalescer.execute("op", List.of("id"), calls::incrementAndGet);
+
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRethrowExceptionOfCall() {
+    assertThatThrownBy(() -> requestCoalescer.execute("op", List.of("id"), () -> {
+      throw new IllegalStateException();
+    })).isInstanceOf(IllegalStateException.class);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.remote.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.config.RequestHedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestHedgerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ContextAwareExecutor executor;
+  private RequestHedger requestHedger;
+
+  @BeforeEach
+  void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    executor = new ContextAwareExecutor("test", Executors.newFixedThreadPool(4),
+        ThreadLocalCurrentTraceContext.create());
+    var properties = new RequestHedgingProperties();
+    properties.setMinSamples(10);
+    properties.setWindowSize(10);
+    properties.setMinDelay(Duration.ofMillis(10));
+    properties.setBudgetRatio(1);
+    requestHedger = new RequestHedger(properties, executor, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldReturnHedgeResultWhenFirstAttemptIsSlow() {
+    warmUp();
+    var attempts = new AtomicInteger();
+
+    var result = requestHedger.execute("op", () -> {
+      if (attempts.incrementAndGet() == 1) {
+        sleep(TimeUnit.SECONDS.toMillis(5));
+        return "slow";
+      }
+      return "fast";
+    });
+
+    assertThat(result).isEqualTo("fast");
+    assertThat(attempts.get()).isEqualTo(2);
+    assertThat(meterRegistry.get(RequestHedger.HEDGES_COUNTER_NAME).tag("outcome", "won")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRunCallOnCallerThreadBeforeLatenciesAreObserved() {
+    var caller = Thread.currentThread();
+
+    var result = requestHedger.execute("op", () -> Thread.currentThread() == caller);
+
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void shouldSkipHedgeWhenAllHedgePermitsAreTaken() {
+    var properties = new RequestHedgingProperties();
+    properties.setMinSamples(10);
+    properties.setWindowSize(10);
+    properties.setMinDelay(Duration.ofMillis(10));
+    properties.setBudgetRatio(1);
+    properties.setMaxHedgesInFlight(0);
+    requestHedger = new RequestHedger(properties, executor, meterRegistry);
+    warmUp();
+    var hedges = new AtomicInteger();
+
+    var result = requestHedger.execute("op", () -> {
+      sleep(100);
+      return "slow";
+    }, () -> {
+      hedges.incrementAndGet();
+      return "hedge";
+    });
+
+    assertThat(result).isEqualTo("slow");
+    assertThat(hedges.get()).isZero();
+    assertThat(meterRegistry.get(RequestHedger.HEDGES_COUNTER_NAME).tag("outcome", "skipped")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotHedgeBeforeLatenciesAreObserved() {
+    var attempts = new AtomicInteger();
+
+    var result = requestHedger.execute("op", () -> {
+      attempts.incrementAndGet();
+      sleep(50);
+      return "result";
+    });
+
+    assertThat(result).isEqualTo("result");
+    assertThat(attempts.get()).isEqualTo(1);
+  }
+
+  private void warmUp() {
+    for (var i = 0; i < 10; i++) {
+      requestHedger.execute("op", () -> "warm up");
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.epam.digital.data.platform.starter.validation.service.FormValidationService;
+import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry;
+import com.epam.digital.data.platform.usrtaskmgt.cache.FormValidationResultCache;
+import com.epam.digital.data.platform.usrtaskmgt.cache.TaskCountCache;
+import com.epam.digital.data.platform.usrtaskmgt.config.BatchProperties;
+import com.epam.digital.data.platform.usrtaskmgt.config.FormValidationCacheProperties;
+import com.epam.digital.data.platform.usrtaskmgt.export.NdjsonTaskExporter;
+import com.epam.digital.data.platform.usrtaskmgt.form.FormDataSerializer;
+import com.epam.digital.data.platform.usrtaskmgt.index.UserTaskIndex;
+import com.epam.digital.data.platform.usrtaskmgt.longpoll.TaskWaitRegistry;
+import com.epam.digital.data.platform.usrtaskmgt.metrics.TaskCompletionMetrics;
+import com.epam.digital.data.platform.usrtaskmgt.pagination.CursorPaginator;
+import com.epam.digital.data.platform.usrtaskmgt.remote.DigitalSignatureRemoteService;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import com.epam.digital.data.platform.usrtaskmgt.stream.TaskStreamRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Loads the service into an application context that has several {@link ContextAwareExecutor}
+ * beans. The executor that isn't used by the service is primary, so the context wires the right
+ * executors only if the field qualifiers are copied to the constructor parameters.
+ */
+class UserTaskManagementServiceContextTest {
+
+  private final ContextAwareExecutor formProcessingExecutor = mock(ContextAwareExecutor.class);
+  private final ContextAwareExecutor batchProcessingExecutor = mock(ContextAwareExecutor.class);
+  private final ContextAwareExecutor readFanOutExecutor = mock(ContextAwareExecutor.class);
+  private final ContextAwareExecutor speculativeValidationExecutor =
+      mock(ContextAwareExecutor.class);
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withBean("readHedgingExecutor", ContextAwareExecutor.class,
+          () -> mock(ContextAwareExecutor.class), definition -> definition.setPrimary(true))
+      .withBean("formProcessingExecutor", ContextAwareExecutor.class,
+          () -> formProcessingExecutor)
+      .withBean("batchProcessingExecutor", ContextAwareExecutor.class,
+          () -> batchProcessingExecutor)
+      .withBean("readFanOutExecutor", ContextAwareExecutor.class, () -> readFanOutExecutor)
+      .withBean("speculativeValidationExecutor", ContextAwareExecutor.class,
+          () -> speculativeValidationExecutor)
+      .withBean(UserTaskRemoteService.class, () -> mock(UserTaskRemoteService.class))
+      .withBean(DigitalSignatureRemoteService.class,
+          () -> mock(DigitalSignatureRemoteService.class))
+      .withBean(FormDataStorageService.class, () -> mock(FormDataStorageService.class))
+      .withBean(FormValidationService.class, () -> mock(FormValidationService.class))
+      .withBean(TaskCompletionMetrics.class, () -> mock(TaskCompletionMetrics.class))
+      .withBean(FormDataSerializer.class, () -> mock(FormDataSerializer.class))
+      .withBean(FormValidationResultCache.class, () -> mock(FormValidationResultCache.class))
+      .withBean(FormValidationCacheProperties.class, FormValidationCacheProperties::new)
+      .withBean(BulkheadRegistry.class, () -> mock(BulkheadRegistry.class))
+      .withBean(BatchProperties.class, BatchProperties::new)
+      .withBean(TaskWaitRegistry.class, () -> mock(TaskWaitRegistry.class))
+      .withBean(TaskStreamRegistry.class, () -> mock(TaskStreamRegistry.class))
+      .withBean(UserTaskIndex.class, () -> mock(UserTaskIndex.class))
+      .withBean(TaskCountCache.class, () -> mock(TaskCountCache.class))
+      .withBean(CursorPaginator.class, () -> mock(CursorPaginator.class))
+      .withBean(NdjsonTaskExporter.class, () -> mock(NdjsonTaskExporter.class))
+      .withBean(UserTaskManagementService.class);
+
+  @Test
+  void shouldInjectQualifiedExecutors() {
+    contextRunner.run(context -> {
+      assertThat(context).hasNotFailed();
+      var service = context.getBean(UserTaskManagementService.class);
+
+      assertThat(ReflectionTestUtils.getField(service, "formProcessingExecutor"))
+          .isSameAs(formProcessingExecutor);
+      assertThat(ReflectionTestUtils.getField(service, "batchProcessingExecutor"))
+          .isSameAs(batchProcessingExecutor);
+      assertThat(ReflectionTestUtils.getField(service, "readFanOutExecutor"))
+          .isSameAs(readFanOutExecutor);
+      assertThat(ReflectionTestUtils.getField(service, "speculativeValidationExecutor"))
+          .isSameAs(speculativeValidationExecutor);
+    });
+  }
+}
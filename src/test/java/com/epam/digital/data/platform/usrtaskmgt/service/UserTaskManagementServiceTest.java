@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.bulkhead.BulkheadRegistry;
+import com.epam.digital.data.platform.usrtaskmgt.config.BatchProperties;
+import com.epam.digital.data.platform.usrtaskmgt.config.BulkheadProperties;
+import com.epam.digital.data.platform.usrtaskmgt.fields.FieldSelection;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CompletedTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.SignableDataUserTaskResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.TaskBatchItemResponse;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.UserTaskLightweightResponse;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+@ExtendWith(MockitoExtension.class)
+class UserTaskManagementServiceTest {
+
+  private static final TestingAuthenticationToken AUTHENTICATION =
+      new TestingAuthenticationToken("user", null);
+
+  @Mock
+  private UserTaskRemoteService userTaskRemoteService;
+  @Mock
+  private FormDataStorageService<?> formDataStorageService;
+  @Spy
+  private BulkheadRegistry bulkheadRegistry = new BulkheadRegistry(new BulkheadProperties(),
+      new SimpleMeterRegistry());
+  @Spy
+  private ContextAwareExecutor batchProcessingExecutor = new ContextAwareExecutor("test",
+      Executors.newFixedThreadPool(2), ThreadLocalCurrentTraceContext.create());
+  @Spy
+  private BatchProperties batchProperties = new BatchProperties();
+  @InjectMocks
+  private UserTaskManagementService userTaskManagementService;
+
+  @Test
+  void shouldAttachNextTaskDetailsIfItIsAssignedToCurrentUser() {
+    when(userTaskRemoteService.getLightweightUserTasks(eq("rootId"), eq("user"), any()))
+        .thenReturn(List.of(new UserTaskLightweightResponse("nextId", "user")));
+    var nextTask = new SignableDataUserTaskResponse();
+    nextTask.setId("nextId");
+    nextTask.setAssignee("user");
+    nextTask.setFormKey("formKey");
+    nextTask.setTaskDefinitionKey("taskDefinitionKey");
+    nextTask.setProcessInstanceId("processInstanceId");
+    when(userTaskRemoteService.getUserTaskById("nextId", "user")).thenReturn(nextTask);
+
+    var result = userTaskManagementService.attachNextTask(completedTask(), AUTHENTICATION);
+
+    assertThat(result.getNextTask()).isSameAs(nextTask);
+    assertThat(result.getNextTask().getFormKey()).isEqualTo("formKey");
+    assertThat(result.getNextTask().getData()).isEmpty();
+    verify(formDataStorageService).getFormData("taskDefinitionKey", "processInstanceId");
+  }
+
+  @Test
+  void shouldAttachOnlyIdOfUnassignedNextTask() {
+    when(userTaskRemoteService.getLightweightUserTasks(eq("rootId"), eq("user"), any()))
+        .thenReturn(List.of(new UserTaskLightweightResponse("nextId", null)));
+
+    var result = userTaskManagementService.attachNextTask(completedTask(), AUTHENTICATION);
+
+    assertThat(result.getNextTask().getId()).isEqualTo("nextId");
+    assertThat(result.getNextTask().getAssignee()).isNull();
+    assertThat(result.getNextTask().getFormKey()).isNull();
+    assertThat(result.getNextTask().getFormVariables()).isNull();
+    assertThat(result.getNextTask().getSignatureValidationPack()).isNull();
+    assertThat(result.getNextTask().getData()).isNull();
+    verify(userTaskRemoteService, never()).getUserTaskById(any(), any());
+    verifyNoInteractions(formDataStorageService);
+  }
+
+  @Test
+  void shouldNotReadFormDataOfBatchTasksIfDataIsNotSelected() {
+    when(userTaskRemoteService.getUserTaskById("taskId1", "user")).thenReturn(task("taskId1"));
+    when(userTaskRemoteService.getUserTaskById("taskId2", "user")).thenReturn(task("taskId2"));
+
+    var result = userTaskManagementService.getTasksByIds(List.of("taskId1", "taskId2"),
+        FieldSelection.parse("id,name"), AUTHENTICATION);
+
+    assertThat(result).extracting(TaskBatchItemResponse::getTaskId)
+        .containsExactly("taskId1", "taskId2");
+    assertThat(result).extracting(item -> item.getTask().getData()).containsOnlyNulls();
+    verifyNoInteractions(formDataStorageService);
+  }
+
+  @Test
+  void shouldReadFormDataOfBatchTasksIfDataIsSelected() {
+    when(userTaskRemoteService.getUserTaskById("taskId1", "user")).thenReturn(task("taskId1"));
+
+    var result = userTaskManagementService.getTasksByIds(List.of("taskId1"),
+        FieldSelection.parse("id,data"), AUTHENTICATION);
+
+    assertThat(result.get(0).getTask().getData()).isEmpty();
+    verify(formDataStorageService).getFormData("taskDefinitionKey", "processInstanceId");
+  }
+
+  private static SignableDataUserTaskResponse task(String id) {
+    var task = new SignableDataUserTaskResponse();
+    task.setId(id);
+    task.setAssignee("user");
+    task.setTaskDefinitionKey("taskDefinitionKey");
+    task.setProcessInstanceId("processInstanceId");
+    return task;
+  }
+
+  private static CompletedTaskResponse completedTask() {
+    return CompletedTaskResponse.builder()
+        .id("taskId")
+        .rootProcessInstanceId("rootId")
+        .build();
+  }
+}
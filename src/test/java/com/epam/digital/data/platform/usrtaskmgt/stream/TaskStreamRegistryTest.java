@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrtaskmgt.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import com.epam.digital.data.platform.usrtaskmgt.async.ContextAwareExecutor;
+import com.epam.digital.data.platform.usrtaskmgt.config.TaskStreamProperties;
+import com.epam.digital.data.platform.usrtaskmgt.exception.TaskStreamLimitExceededException;
+import com.epam.digital.data.platform.usrtaskmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrtaskmgt.remote.UserTaskRemoteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStreamRegistryTest {
+
+  @Mock
+  private UserTaskRemoteService userTaskRemoteService;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ContextAwareExecutor executor;
+  private TaskStreamRegistry taskStreamRegistry;
+
+  @BeforeEach
+  void init() {
+    var properties = new TaskStreamProperties();
+    properties.setRefreshInterval(Duration.ofHours(1));
+    properties.setMaxConnections(2);
+    meterRegistry = new SimpleMeterRegistry();
+    executor = new ContextAwareExecutor("test", Executors.newFixedThreadPool(2),
+        ThreadLocalCurrentTraceContext.create());
+    taskStreamRegistry = new TaskStreamRegistry(userTaskRemoteService, properties, executor,
+        ThreadLocalCurrentTraceContext.create(), meterRegistry);
+
+    lenient().when(userTaskRemoteService.countUserTasks(any())).thenReturn(new CountResponse(1L));
+    lenient().when(userTaskRemoteService.getLightweightUserTasks(any(), any(), any()))
+        .thenReturn(List.of());
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    taskStreamRegistry.shutdown();
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldShareRefreshBetweenConnectionsOfSameUser() {
+    taskStreamRegistry.subscribe("user");
+    taskStreamRegistry.subscribe("user");
+
+    verify(userTaskRemoteService, timeout(1000)).countUserTasks(eq("user"));
+    verify(userTaskRemoteService, timeout(1000))
+        .getLightweightUserTasks(eq(null), eq("user"), any());
+    assertThat(meterRegistry.get(TaskStreamRegistry.CONNECTIONS_GAUGE_NAME).gauge().value())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get(TaskStreamRegistry.SUBSCRIBERS_GAUGE_NAME).gauge().value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotRequestTaskListWhileCountIsUnchanged() {
+    var properties = new TaskStreamProperties();
+    properties.setRefreshInterval(Duration.ofMillis(20));
+    properties.setTaskListRefreshInterval(Duration.ofHours(1));
+    recreateRegistry(properties);
+
+    taskStreamRegistry.subscribe("user");
+
+    verify(userTaskRemoteService, timeout(1000).atLeast(3)).countUserTasks(eq("user"));
+    verify(userTaskRemoteService).getLightweightUserTasks(eq(null), eq("user"), any());
+  }
+
+  @Test
+  void shouldSendHeartbeatsWhileRefreshIsSlow() throws InterruptedException {
+    var properties = new TaskStreamProperties();
+    properties.setRefreshInterval(Duration.ofHours(1));
+    properties.setHeartbeatInterval(Duration.ofMillis(20));
+    recreateRegistry(properties);
+    var refreshReleased = new CountDownLatch(1);
+    when(userTaskRemoteService.countUserTasks(any())).thenAnswer(invocation -> {
+      refreshReleased.await(5, TimeUnit.SECONDS);
+      return new CountResponse(1L);
+    });
+
+    try {
+      taskStreamRegistry.subscribe("user");
+      verify(userTaskRemoteService, timeout(1000)).countUserTasks(eq("user"));
+      for (var i = 0; i < 100 && heartbeats() == 0; i++) {
+        Thread.sleep(10);
+      }
+
+      assertThat(heartbeats()).isPositive();
+    } finally {
+      refreshReleased.countDown();
+    }
+  }
+
+  @Test
+  void shouldRejectConnectionOverLimit() {
+    taskStreamRegistry.subscribe("user1");
+    taskStreamRegistry.subscribe("user2");
+
+    assertThatThrownBy(() -> taskStreamRegistry.subscribe("user3"))
+        .isInstanceOf(TaskStreamLimitExceededException.class);
+    assertThat(meterRegistry.get(TaskStreamRegistry.CONNECTIONS_GAUGE_NAME).gauge().value())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get(TaskStreamRegistry.REJECTIONS_COUNTER_NAME).counter().count())
+        .isEqualTo(1);
+  }
+
+  private void recreateRegistry(TaskStreamProperties properties) {
+    taskStreamRegistry.shutdown();
+    taskStreamRegistry = new TaskStreamRegistry(userTaskRemoteService, properties, executor,
+        ThreadLocalCurrentTraceContext.create(), meterRegistry);
+  }
+
+  private double heartbeats() {
+    var counter = meterRegistry.find(TaskStreamRegistry.EVENTS_COUNTER_NAME)
+        .tag("type", "heartbeat").counter();
+    return counter == null ? 0 : counter.count();
+  }
+}
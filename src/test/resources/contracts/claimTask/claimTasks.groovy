@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package contracts.claimTask
+
+import org.springframework.cloud.contract.spec.Contract
+
+Contract.make {
+    name "claimTasks"
+    description "should return claim result of every user-task"
+
+    request {
+        urlPath "/api/task/claim"
+        method POST()
+        headers {
+            contentType applicationJson()
+            header("x-access-token", "testToken")
+        }
+        body(
+                taskIds: ["testId", "testId409", "testId404"]
+        )
+    }
+
+    response {
+        status OK()
+        body([
+                [taskId: "testId", status: "CLAIMED"],
+                [taskId: "testId409", status: "ALREADY_ASSIGNED"],
+                [taskId: "testId404", status: "NOT_FOUND"]
+        ])
+    }
+}